@@ -0,0 +1,60 @@
+package loglist.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class AccessBenchmark {
+    private static final int INDEX_COUNT = 1 << 16;
+
+    @Param({"LogList", "ChunkedLogList", "PooledLogList", "ArrayList", "LinkedList"})
+    private String implementation;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] indexes;
+    private int operation;
+
+    @Setup
+    public void fill() {
+        list = Lists.filled(implementation, size);
+        indexes = Lists.randomIndexes(INDEX_COUNT, size, 42);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(indexes[operation++ & (INDEX_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public Integer set() {
+        int index = indexes[operation++ & (INDEX_COUNT - 1)];
+        return list.set(index, index);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (Integer value : list) {
+            blackhole.consume(value);
+        }
+    }
+}
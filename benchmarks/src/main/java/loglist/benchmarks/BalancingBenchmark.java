@@ -0,0 +1,56 @@
+package loglist.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import loglist.BalancingStrategy;
+import loglist.LogList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class BalancingBenchmark {
+    @Param({"AVL", "WEIGHT_BALANCED"})
+    private BalancingStrategy balancing;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    @Benchmark
+    public LogList<Integer> insertFront() {
+        LogList<Integer> list = new LogList<>(balancing);
+        for (int i = 0; i < size; ++i) {
+            list.add(0, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LogList<Integer> insertMiddle() {
+        LogList<Integer> list = new LogList<>(balancing);
+        for (int i = 0; i < size; ++i) {
+            list.add(list.size() / 2, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public LogList<Integer> insertEnd() {
+        LogList<Integer> list = new LogList<>(balancing);
+        for (int i = 0; i < size; ++i) {
+            list.add(i);
+        }
+        return list;
+    }
+}
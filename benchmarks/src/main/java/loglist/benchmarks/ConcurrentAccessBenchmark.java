@@ -0,0 +1,54 @@
+package loglist.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentAccessBenchmark {
+    @Param({"ConcurrentLogList", "SynchronizedLogList"})
+    private String implementation;
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void fill() {
+        list = Lists.filled(implementation, size);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(3)
+    public Integer read() {
+        return list.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Integer write() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        return list.set(index, index);
+    }
+}
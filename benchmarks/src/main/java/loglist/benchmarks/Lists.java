@@ -0,0 +1,56 @@
+package loglist.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import loglist.ChunkedLogList;
+import loglist.ConcurrentLogList;
+import loglist.LogList;
+import loglist.PooledLogList;
+
+final class Lists {
+    private Lists() {
+    }
+
+    static List<Integer> create(String implementation) {
+        switch (implementation) {
+            case "LogList":
+                return new LogList<>();
+            case "ChunkedLogList":
+                return new ChunkedLogList<>();
+            case "PooledLogList":
+                return new PooledLogList<>();
+            case "ConcurrentLogList":
+                return new ConcurrentLogList<>();
+            case "SynchronizedLogList":
+                return Collections.synchronizedList(new LogList<>());
+            case "ArrayList":
+                return new ArrayList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+
+    static List<Integer> filled(String implementation, int size) {
+        List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(i);
+        }
+        List<Integer> list = create(implementation);
+        list.addAll(values);
+        return list;
+    }
+
+    static int[] randomIndexes(int count, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; ++i) {
+            indexes[i] = random.nextInt(bound);
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,73 @@
+package loglist.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = MutationBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = MutationBenchmark.BATCH_SIZE)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class MutationBenchmark {
+    static final int BATCH_SIZE = 500;
+
+    @Param({"LogList", "ChunkedLogList", "PooledLogList", "ArrayList", "LinkedList"})
+    private String implementation;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] indexes;
+    private int operation;
+
+    @Setup(Level.Iteration)
+    public void fill() {
+        list = Lists.filled(implementation, size);
+        indexes = Lists.randomIndexes(BATCH_SIZE, size - BATCH_SIZE, 42);
+        operation = 0;
+    }
+
+    @Benchmark
+    public void addFront() {
+        list.add(0, size);
+    }
+
+    @Benchmark
+    public void addMiddle() {
+        list.add(list.size() / 2, size);
+    }
+
+    @Benchmark
+    public void addEnd() {
+        list.add(list.size(), size);
+    }
+
+    @Benchmark
+    public Integer removeFront() {
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public Integer removeEnd() {
+        return list.remove(list.size() - 1);
+    }
+
+    @Benchmark
+    public Integer remove() {
+        return list.remove(indexes[operation++ % BATCH_SIZE]);
+    }
+}
@@ -0,0 +1,56 @@
+package loglist.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import loglist.LogList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class RollingWindowBenchmark {
+    @Param({"100000", "1000000"})
+    private int capacity;
+
+    @Param({"1", "64", "1024"})
+    private int evictionBatchSize;
+
+    private LogList<Integer> bounded;
+    private LogList<Integer> trimmedByHand;
+    private int event;
+
+    @Setup
+    public void fill() {
+        bounded = new LogList<>(capacity, evictionBatchSize);
+        trimmedByHand = new LogList<>();
+        for (int i = 0; i < capacity; ++i) {
+            bounded.add(i);
+            trimmedByHand.add(i);
+        }
+    }
+
+    @Benchmark
+    public LogList<Integer> appendBounded() {
+        bounded.add(event++);
+        return bounded;
+    }
+
+    @Benchmark
+    public LogList<Integer> appendAndRemoveFirst() {
+        trimmedByHand.add(event++);
+        trimmedByHand.remove(0);
+        return trimmedByHand;
+    }
+}
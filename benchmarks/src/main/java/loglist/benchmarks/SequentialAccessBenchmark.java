@@ -0,0 +1,45 @@
+package loglist.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class SequentialAccessBenchmark {
+    // No LinkedList: reading every index with get is O(n^2) there and does not finish at the larger sizes.
+    @Param({"LogList", "ChunkedLogList", "PooledLogList", "ArrayList"})
+    private String implementation;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void fill() {
+        list = Lists.filled(implementation, size);
+    }
+
+    @Benchmark
+    public void sequentialGet(Blackhole blackhole) {
+        for (int i = 0; i < size; ++i) {
+            blackhole.consume(list.get(i));
+        }
+    }
+}
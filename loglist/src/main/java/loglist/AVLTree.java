@@ -0,0 +1,1336 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+public class AVLTree<T> {
+    private Node root = null;
+    private final Comparator<? super T> comparator;
+    private final BinaryOperator<T> combiner;
+    private final BalancingStrategy balancing;
+    private final ToLongFunction<? super T> weigher;
+    protected int modificationCount;
+    private Node finger;
+    private int fingerIndex;
+    private int fingerModificationCount;
+    private Node firstNode;
+    private int firstNodeModificationCount;
+    private Node lastNode;
+    private int lastNodeModificationCount;
+
+    public AVLTree(Comparator<? super T> comparator) {
+        this(comparator, null);
+    }
+
+    public AVLTree(Comparator<? super T> comparator, BinaryOperator<T> combiner) {
+        this(comparator, combiner, BalancingStrategy.AVL);
+    }
+
+    public AVLTree(Comparator<? super T> comparator, BinaryOperator<T> combiner, BalancingStrategy balancing) {
+        this(comparator, combiner, balancing, null);
+    }
+
+    /**
+     * With a {@code weigher}, every node also caches the total weight of its subtree, which enables
+     * {@link #weightBefore} and {@link #indexAtWeight}. Weights must be non-negative. Range updates are then
+     * applied eagerly, since a subtree weight can not be derived from a pending operation.
+     */
+    public AVLTree(Comparator<? super T> comparator, BinaryOperator<T> combiner, BalancingStrategy balancing,
+                   ToLongFunction<? super T> weigher) {
+        this.comparator = comparator;
+        this.combiner = combiner;
+        this.balancing = Objects.requireNonNull(balancing);
+        this.weigher = weigher;
+    }
+
+    public void add(T value) {
+        Objects.requireNonNull(value);
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("add", -1) : null;
+        add(new Node(value));
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+    }
+
+    public T get(int index){
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("get", index) : null;
+        Node node = findNodeAtIndex(index);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return node.value;
+    }
+
+    public T remove(int index){
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("remove", index) : null;
+        Node node = findNodeAtIndex(index);
+        T value = node.value;
+        remove(node);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return value;
+    }
+
+    public int size() {
+        return (root == null) ? 0 : 1 + root.childrenCount;
+    }
+
+    int height() {
+        return height(root);
+    }
+
+    public long totalWeight() {
+        checkWeigher();
+        return (root == null) ? 0 : root.subTreeWeight;
+    }
+
+    /**
+     * Returns the total weight of the elements before {@code index}, for {@code 0 <= index <= size()}.
+     */
+    public long weightBefore(int index) {
+        checkWeigher();
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        long weight = 0;
+        Node current = root;
+        while (current != null) {
+            current.pushDown();
+            int leftSubTreeSize = size(current.leftChild);
+            if (index <= leftSubTreeSize) {
+                current = current.leftChild;
+            } else {
+                weight += weight(current.leftChild) + current.weight;
+                index -= leftSubTreeSize + 1;
+                current = current.rightChild;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * Returns the index of the element whose weight range {@code [weightBefore(i), weightBefore(i + 1))} contains
+     * {@code offset}. Elements of zero weight are never returned.
+     */
+    public int indexAtWeight(long offset) {
+        checkWeigher();
+        if (offset < 0 || offset >= totalWeight()) {
+            throw new ArrayIndexOutOfBoundsException("Weight offset " + offset + " is out of bounds");
+        }
+        int index = 0;
+        Node current = root;
+        while (true) {
+            current.pushDown();
+            long leftWeight = weight(current.leftChild);
+            if (offset < leftWeight) {
+                current = current.leftChild;
+            } else if (offset < leftWeight + current.weight) {
+                return index + size(current.leftChild);
+            } else {
+                offset -= leftWeight + current.weight;
+                index += size(current.leftChild) + 1;
+                current = current.rightChild;
+            }
+        }
+    }
+
+    private void checkWeigher() {
+        if (weigher == null) {
+            throw new IllegalStateException("Tree has no weigher");
+        }
+    }
+
+    public T aggregate(int fromIndex, int toIndex) {
+        if (combiner == null) {
+            throw new IllegalStateException("Tree has no combiner");
+        }
+        if (fromIndex < 0 || toIndex > size() || fromIndex >= toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is empty or out of range");
+        }
+        return aggregate(root, fromIndex, toIndex);
+    }
+
+    /**
+     * Applies {@code operation} to every element in {@code [fromIndex, toIndex)}. Without a combiner or weigher the
+     * operation is recorded on O(log n) subtrees and pushed down lazily. Otherwise it is applied to each element in
+     * the range, since cached aggregates and weights can not be derived from the operation alone.
+     */
+    public void updateRange(int fromIndex, int toIndex, UnaryOperator<T> operation) {
+        Objects.requireNonNull(operation);
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of range");
+        }
+        if (fromIndex < toIndex) {
+            updateRange(root, fromIndex, toIndex, operation);
+            modificationCount++;
+        }
+    }
+
+    /**
+     * Reverses the order of the elements in {@code [fromIndex, toIndex)} in O(log n). With a combiner, every node
+     * also caches the aggregate of its subtree in reverse order, which becomes its aggregate when it is reversed.
+     */
+    public void reverse(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of range");
+        }
+        NodePair tail = split(root, toIndex);
+        NodePair parts = split(tail.left, fromIndex);
+        if (parts.right != null) {
+            parts.right.reverse();
+        }
+        root = concat(concat(parts.left, parts.right), tail.right);
+        modificationCount++;
+    }
+
+    protected Node getRoot() {
+        return root;
+    }
+
+    protected void add(Node node) {
+        if (root == null) {
+            root = node;
+        } else {
+            Node current = root;
+            while (true) {
+                current.pushDown();
+                int compare = node.compareTo(current);
+                if (compare < 0) {
+                    if (current.leftChild == null) {
+                        current.setLeftChild(node);
+                        root = current.balanceTree();
+                        break;
+                    } else {
+                        current = current.leftChild;
+                    }
+                } else {
+                    if (current.rightChild == null) {
+                        current.setRightChild(node);
+                        root = current.balanceTree();
+                        break;
+                    } else {
+                        current = current.rightChild;
+                    }
+                }
+            }
+        }
+        modificationCount += 1;
+    }
+
+    protected Node add(int index, T value) {
+        Objects.requireNonNull(value);
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("insert", index) : null;
+        Node node = new Node(value);
+        add(index, node);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return node;
+    }
+
+    protected void add(int index, Node node) {
+        if (root == null) {
+            root = node;
+        } else {
+            Node current = root;
+            int smallerElements = index;
+            while (true) {
+                current.pushDown();
+                int leftSubTreeSize = (current.leftChild == null) ? 0 : current.leftChild.sizeOfSubTree();
+                if (smallerElements <= leftSubTreeSize) {
+                    if (current.leftChild == null) {
+                        current.setLeftChild(node);
+                        root = current.balanceTree();
+                        break;
+                    } else {
+                        current = current.leftChild;
+                    }
+                } else {
+                    smallerElements -= leftSubTreeSize + 1;
+                    if (current.rightChild == null) {
+                        current.setRightChild(node);
+                        root = current.balanceTree();
+                        break;
+                    } else {
+                        current = current.rightChild;
+                    }
+                }
+            }
+        }
+        modificationCount += 1;
+    }
+
+    public void clear() {
+        root = null;
+        finger = null;
+        firstNode = null;
+        lastNode = null;
+        modificationCount++;
+    }
+
+    /**
+     * Finds the node at {@code index}. The last node found is kept as a finger together with its index, and
+     * while the tree is not structurally modified the search starts from the finger instead of the root, so
+     * sequential and nearby access costs O(1) amortised or O(log d) in the distance d. Since the finger is written,
+     * concurrent readers of one tree need their own synchronization or a descent that does not use it.
+     */
+    protected Node findNodeAtIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+
+        Node current;
+        int currentIndex;
+        if (finger != null && fingerModificationCount == modificationCount) {
+            if (index == fingerIndex + 1) {
+                return setFinger(finger.successor(), index);
+            } else if (index == fingerIndex - 1) {
+                return setFinger(finger.predecessor(), index);
+            }
+            current = finger;
+            currentIndex = fingerIndex;
+            int firstIndex = currentIndex - size(current.leftChild);
+            int lastIndex = currentIndex + size(current.rightChild);
+            while (index < firstIndex || index > lastIndex) {
+                if (current.isLeftChild()) {
+                    current = current.parent;
+                    currentIndex = lastIndex + 1;
+                    lastIndex = currentIndex + size(current.rightChild);
+                } else {
+                    current = current.parent;
+                    currentIndex = firstIndex - 1;
+                    firstIndex = currentIndex - size(current.leftChild);
+                }
+            }
+        } else {
+            current = root;
+            current.pushDown();
+            currentIndex = size(current.leftChild);
+        }
+
+        int depth = 0;
+        while (currentIndex != index) {
+            depth++;
+            if (currentIndex > index) {
+                current = current.leftChild;
+                current.pushDown();
+                currentIndex -= 1 + size(current.rightChild);
+            } else {
+                current = current.rightChild;
+                current.pushDown();
+                currentIndex += 1 + size(current.leftChild);
+            }
+        }
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.recordDescent(depth);
+        }
+        return setFinger(current, index);
+    }
+
+    /**
+     * Returns the leftmost node, or null if the tree is empty. The node is cached until the next modification that
+     * does not maintain it; {@link #addFirst}, {@link #addLast} and {@link #removeFirst}/{@link #removeLast} do.
+     */
+    protected Node firstNode() {
+        if (firstNodeModificationCount != modificationCount) {
+            firstNode = (root == null) ? null : root.smallestNodeInSubTree();
+            firstNodeModificationCount = modificationCount;
+        }
+        return firstNode;
+    }
+
+    protected Node lastNode() {
+        if (lastNodeModificationCount != modificationCount) {
+            lastNode = (root == null) ? null : root.largestNodeInSubTree();
+            lastNodeModificationCount = modificationCount;
+        }
+        return lastNode;
+    }
+
+    /**
+     * Adds {@code value} before the first element, starting from the cached first node instead of the root.
+     */
+    protected Node addFirst(T value) {
+        Objects.requireNonNull(value);
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("addFirst", -1) : null;
+        Node node = new Node(value);
+        Node first = firstNode();
+        Node last = lastNode();
+        if (first == null) {
+            root = node;
+            last = node;
+        } else {
+            first.pushDown();
+            first.setLeftChild(node);
+            root = first.balanceTree();
+        }
+        modificationCount++;
+        cacheEnds(node, last);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return node;
+    }
+
+    protected Node addLast(T value) {
+        Objects.requireNonNull(value);
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("addLast", -1) : null;
+        Node node = new Node(value);
+        Node first = firstNode();
+        Node last = lastNode();
+        if (last == null) {
+            root = node;
+            first = node;
+        } else {
+            last.pushDown();
+            last.setRightChild(node);
+            root = last.balanceTree();
+        }
+        modificationCount++;
+        cacheEnds(first, node);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return node;
+    }
+
+    protected T removeFirst() {
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("removeFirst", 0) : null;
+        Node first = firstNode();
+        Node last = lastNode();
+        Node second = first.successor();
+        remove(first);
+        cacheEnds(second, (first == last) ? null : last);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return first.value;
+    }
+
+    protected T removeLast() {
+        TreeOperationEvent event = TreeMetrics.ENABLED ? TreeMetrics.beginOperation("removeLast", -1) : null;
+        Node first = firstNode();
+        Node last = lastNode();
+        Node beforeLast = last.predecessor();
+        remove(last);
+        cacheEnds((first == last) ? null : first, beforeLast);
+        if (TreeMetrics.ENABLED) {
+            TreeMetrics.endOperation(event, size());
+        }
+        return last.value;
+    }
+
+    private void cacheEnds(Node first, Node last) {
+        firstNode = first;
+        firstNodeModificationCount = modificationCount;
+        lastNode = last;
+        lastNodeModificationCount = modificationCount;
+    }
+
+    private Node setFinger(Node node, int index) {
+        finger = node;
+        fingerIndex = index;
+        fingerModificationCount = modificationCount;
+        return node;
+    }
+
+    /**
+     * Returns the number of elements strictly less than {@code value}, which is also the index of the first
+     * element not less than it. Only meaningful while the tree is kept sorted by its comparator.
+     */
+    public int lowerBound(T value) {
+        return countBefore(value, false);
+    }
+
+    /**
+     * Returns the number of elements not greater than {@code value}, which is also the index of the first
+     * element greater than it.
+     */
+    public int upperBound(T value) {
+        return countBefore(value, true);
+    }
+
+    public int rank(T value) {
+        return lowerBound(value);
+    }
+
+    public boolean contains(T value) {
+        int index = lowerBound(value);
+        return index < size() && comparator.compare(get(index), value) == 0;
+    }
+
+    /**
+     * Returns the number of elements {@code e} with {@code from <= e <= to}.
+     */
+    public int countInRange(T from, T to) {
+        if (comparator.compare(from, to) > 0) {
+            return 0;
+        }
+        return upperBound(to) - lowerBound(from);
+    }
+
+    public T select(int rank) {
+        return get(rank);
+    }
+
+    private int countBefore(T value, boolean inclusive) {
+        Objects.requireNonNull(value);
+        int count = 0;
+        Node current = root;
+        while (current != null) {
+            current.pushDown();
+            int comparison = comparator.compare(current.value, value);
+            if (comparison < 0 || (inclusive && comparison == 0)) {
+                count += size(current.leftChild) + 1;
+                current = current.rightChild;
+            } else {
+                current = current.leftChild;
+            }
+        }
+        return count;
+    }
+
+    protected void addAll(int index, Iterator<? extends T> values, int count) {
+        Node subTree = buildBalancedTree(values, count);
+        if (subTree == null) {
+            return;
+        }
+        NodePair parts = split(root, index);
+        root = concat(concat(parts.left, subTree), parts.right);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces every value with {@code operation(value)} in place, in order. The shape of the tree is unchanged.
+     */
+    public void replaceAll(UnaryOperator<T> operation) {
+        Objects.requireNonNull(operation);
+        replaceAll(root, operation);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces every value with {@code operation(value)} in place. Disjoint subtrees are processed in parallel on the
+     * common fork-join pool, so the operation must be safe to call concurrently and must not depend on the order of
+     * the calls. The shape of the tree is unchanged.
+     */
+    public void replaceAllParallel(UnaryOperator<T> operation) {
+        Objects.requireNonNull(operation);
+        if (root != null) {
+            new SubTreeTask(root, operation, null).invoke();
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Calls {@code action} for every value, in no particular order and on several threads at once.
+     */
+    public void forEachParallel(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (root != null) {
+            new SubTreeTask(root, null, action).invoke();
+        }
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        int expectedModificationCount = modificationCount;
+        forEach(root, action);
+        if (modificationCount != expectedModificationCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Sorts the values stably with {@code comparator}, or by natural order if it is null, using a parallel sort of
+     * the nodes followed by an O(n) balanced rebuild. Nodes move with their values.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        Comparator<? super T> order = (comparator == null) ? (Comparator<? super T>) Comparator.naturalOrder() : comparator;
+        Object[] nodes = new Object[size()];
+        Node current = firstNode();
+        for (int i = 0; i < nodes.length; ++i) {
+            nodes[i] = current;
+            current = current.successor();
+        }
+        Arrays.parallelSort(nodes, (a, b) -> order.compare(((Node) a).value, ((Node) b).value));
+        List<Node> sortedNodes = new ArrayList<>(nodes.length);
+        for (Object node : nodes) {
+            sortedNodes.add((Node) node);
+        }
+        rebuild(sortedNodes, List.of());
+    }
+
+    /**
+     * Pushes every pending update and reversal down to the leaves in O(n), so that reading the tree afterwards does
+     * not write to its nodes and can be done from several threads at once.
+     */
+    void pushDownAll() {
+        pushDownAll(root);
+    }
+
+    private void pushDownAll(Node node) {
+        while (node != null) {
+            node.pushDown();
+            pushDownAll(node.leftChild);
+            node = node.rightChild;
+        }
+    }
+
+    private void replaceAll(Node node, UnaryOperator<T> operation) {
+        if (node == null) {
+            return;
+        }
+        node.pushDown();
+        replaceAll(node.leftChild, operation);
+        node.value = Objects.requireNonNull(operation.apply(node.value));
+        node.updateWeight();
+        replaceAll(node.rightChild, operation);
+        node.recompute();
+    }
+
+    private void forEach(Node node, Consumer<? super T> action) {
+        while (node != null) {
+            node.pushDown();
+            forEach(node.leftChild, action);
+            action.accept(node.value);
+            node = node.rightChild;
+        }
+    }
+
+    /**
+     * Replaces the contents of the tree with {@code nodes}, in that order, linked into a perfectly balanced tree,
+     * and unlinks {@code removedNodes}. Nodes may come from this tree; pending lazy tags on them must already be
+     * pushed down.
+     */
+    protected void rebuild(List<Node> nodes, List<Node> removedNodes) {
+        for (Node node : removedNodes) {
+            node.detach();
+        }
+        root = buildBalancedTree(nodes, 0, nodes.size());
+        if (root != null) {
+            root.parent = null;
+        }
+        finger = null;
+        modificationCount++;
+    }
+
+    private Node buildBalancedTree(List<Node> nodes, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return null;
+        }
+        int middle = (fromIndex + toIndex - 1) >>> 1;
+        Node node = nodes.get(middle);
+        node.setChildren(buildBalancedTree(nodes, fromIndex, middle), buildBalancedTree(nodes, middle + 1, toIndex));
+        return node;
+    }
+
+    private Node buildBalancedTree(Iterator<? extends T> values, int count) {
+        if (count == 0) {
+            return null;
+        }
+        int leftCount = (count - 1) / 2;
+        Node left = buildBalancedTree(values, leftCount);
+        Node node = new Node(Objects.requireNonNull(values.next()));
+        Node right = buildBalancedTree(values, count - 1 - leftCount);
+        node.setChildren(left, right);
+        return node;
+    }
+
+    private NodePair split(Node node, int index) {
+        if (node == null) {
+            return new NodePair(null, null);
+        }
+        node.pushDown();
+        Node left = node.leftChild;
+        Node right = node.rightChild;
+        node.detach();
+        int leftSubTreeSize = size(left);
+        if (index <= leftSubTreeSize) {
+            NodePair parts = split(left, index);
+            return new NodePair(parts.left, join(parts.right, node, right));
+        } else {
+            NodePair parts = split(right, index - leftSubTreeSize - 1);
+            return new NodePair(join(left, node, parts.left), parts.right);
+        }
+    }
+
+    private Node concat(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        NodePair parts = split(right, 1);
+        return join(left, parts.left, parts.right);
+    }
+
+    private Node join(Node left, Node middle, Node right) {
+        if (!canJoin(right, left)) {
+            Node current = left;
+            current.pushDown();
+            while (!canJoin(right, current.rightChild)) {
+                current = current.rightChild;
+                current.pushDown();
+            }
+            middle.setChildren(current.rightChild, right);
+            current.rightChild = middle;
+            middle.parent = current;
+            return current.balanceTree();
+        } else if (!canJoin(left, right)) {
+            Node current = right;
+            current.pushDown();
+            while (!canJoin(left, current.leftChild)) {
+                current = current.leftChild;
+                current.pushDown();
+            }
+            middle.setChildren(left, current.leftChild);
+            current.leftChild = middle;
+            middle.parent = current;
+            return current.balanceTree();
+        } else {
+            middle.setChildren(left, right);
+            return middle;
+        }
+    }
+
+    private boolean canJoin(Node smaller, Node larger) {
+        return balancing.canJoin(height(smaller), size(smaller), height(larger), size(larger));
+    }
+
+    private T aggregate(Node node, int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == node.sizeOfSubTree()) {
+            return node.aggregate;
+        }
+        node.pushDown();
+        int leftSubTreeSize = size(node.leftChild);
+        T result = null;
+        if (fromIndex < leftSubTreeSize) {
+            result = aggregate(node.leftChild, fromIndex, Math.min(toIndex, leftSubTreeSize));
+        }
+        if (fromIndex <= leftSubTreeSize && leftSubTreeSize < toIndex) {
+            result = combine(result, node.value);
+        }
+        if (toIndex > leftSubTreeSize + 1) {
+            int rightFromIndex = Math.max(fromIndex - leftSubTreeSize - 1, 0);
+            result = combine(result, aggregate(node.rightChild, rightFromIndex, toIndex - leftSubTreeSize - 1));
+        }
+        return result;
+    }
+
+    private void updateRange(Node node, int fromIndex, int toIndex, UnaryOperator<T> operation) {
+        if (fromIndex == 0 && toIndex == node.sizeOfSubTree() && combiner == null && weigher == null) {
+            node.update(operation);
+            return;
+        }
+        node.pushDown();
+        int leftSubTreeSize = size(node.leftChild);
+        if (fromIndex < leftSubTreeSize) {
+            updateRange(node.leftChild, fromIndex, Math.min(toIndex, leftSubTreeSize), operation);
+        }
+        if (fromIndex <= leftSubTreeSize && leftSubTreeSize < toIndex) {
+            node.value = operation.apply(node.value);
+            node.updateWeight();
+        }
+        if (toIndex > leftSubTreeSize + 1) {
+            int rightFromIndex = Math.max(fromIndex - leftSubTreeSize - 1, 0);
+            updateRange(node.rightChild, rightFromIndex, toIndex - leftSubTreeSize - 1, operation);
+        }
+        node.recompute();
+    }
+
+    private T combine(T left, T right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        return combiner.apply(left, right);
+    }
+
+    private int height(Node node) {
+        return (node == null) ? -1 : node.height;
+    }
+
+    private long weight(Node node) {
+        return (node == null) ? 0 : node.subTreeWeight;
+    }
+
+    private int size(Node node) {
+        return (node == null) ? 0 : node.sizeOfSubTree();
+    }
+
+    public AVLTree<T> split(int index) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+        NodePair parts = split(root, index);
+        root = parts.left;
+        modificationCount++;
+
+        AVLTree<T> tail = new AVLTree<>(comparator, combiner, balancing, weigher);
+        tail.root = parts.right;
+        tail.modificationCount++;
+        return tail;
+    }
+
+    public void concat(AVLTree<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Tree can not be concatenated with itself");
+        }
+        if (other.combiner != combiner) {
+            throw new IllegalArgumentException("Trees with different combiners can not be concatenated");
+        }
+        if (other.weigher != weigher) {
+            throw new IllegalArgumentException("Trees with different weighers can not be concatenated");
+        }
+        if (other.balancing != balancing) {
+            throw new IllegalArgumentException("Trees with different balancing strategies can not be concatenated");
+        }
+        root = concat(root, other.root);
+        modificationCount++;
+        other.root = null;
+        other.modificationCount++;
+    }
+
+    /**
+     * Unlinks {@code node} from the tree. A node with two children is replaced by its successor node rather than
+     * by its successor's value, so every remaining element keeps its node.
+     */
+    protected void remove(Node node) {
+        node.pushDown();
+        Node replacement;
+        Node balanceStart;
+        if (node.hasTwoChildren()) {
+            replacement = node.successor();
+            if (replacement.parent == node) {
+                balanceStart = replacement;
+            } else {
+                balanceStart = replacement.parent;
+                balanceStart.setLeftChild(replacement.rightChild);
+                replacement.setRightChild(node.rightChild);
+            }
+            replacement.setLeftChild(node.leftChild);
+        } else {
+            replacement = (node.leftChild != null) ? node.leftChild : node.rightChild;
+            balanceStart = node.parent;
+        }
+
+        Node parent = node.parent;
+        if (replacement != null) {
+            replacement.parent = parent;
+        }
+        if (parent != null) {
+            if (parent.leftChild == node) {
+                parent.leftChild = replacement;
+            } else {
+                parent.rightChild = replacement;
+            }
+        }
+        node.leftChild = null;
+        node.rightChild = null;
+        node.parent = null;
+        root = (balanceStart == null) ? replacement : balanceStart.balanceTree();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the index of {@code node} in O(log n), or -1 if it is not in this tree. Pending lazy tags on the
+     * path from the root are pushed down first, so that the links describe the actual order.
+     */
+    protected int indexOf(Node node) {
+        List<Node> path = new ArrayList<>();
+        for (Node current = node; current != null; current = current.parent) {
+            path.add(current);
+        }
+        if (path.get(path.size() - 1) != root) {
+            return -1;
+        }
+        for (int i = path.size() - 1; i >= 0; --i) {
+            path.get(i).pushDown();
+        }
+        int index = size(node.leftChild);
+        for (Node current = node; current.parent != null; current = current.parent) {
+            if (current.parent.rightChild == current) {
+                index += size(current.parent.leftChild) + 1;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+    @SuppressWarnings("serial")
+    private class SubTreeTask extends RecursiveAction {
+        private static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+        private final Node node;
+        private final UnaryOperator<T> operation;
+        private final Consumer<? super T> action;
+
+        SubTreeTask(Node node, UnaryOperator<T> operation, Consumer<? super T> action) {
+            this.node = node;
+            this.operation = operation;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (node.sizeOfSubTree() <= SEQUENTIAL_THRESHOLD) {
+                processSubTree(node);
+                return;
+            }
+            node.pushDown();
+            SubTreeTask left = (node.leftChild == null) ? null : new SubTreeTask(node.leftChild, operation, action);
+            if (left != null) {
+                left.fork();
+            }
+            process(node);
+            if (node.rightChild != null) {
+                new SubTreeTask(node.rightChild, operation, action).compute();
+            }
+            if (left != null) {
+                left.join();
+            }
+            if (operation != null) {
+                node.recompute();
+            }
+        }
+
+        private void processSubTree(Node current) {
+            if (current == null) {
+                return;
+            }
+            current.pushDown();
+            processSubTree(current.leftChild);
+            process(current);
+            processSubTree(current.rightChild);
+            if (operation != null) {
+                current.recompute();
+            }
+        }
+
+        private void process(Node current) {
+            if (operation != null) {
+                current.value = Objects.requireNonNull(operation.apply(current.value));
+                current.updateWeight();
+            } else {
+                action.accept(current.value);
+            }
+        }
+    }
+
+    private class NodePair {
+        private final Node left;
+        private final Node right;
+
+        NodePair(Node left, Node right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    protected class Node implements Comparable<Node> {
+        private T value;
+        private T aggregate;
+        private T reversedAggregate;
+        private List<UnaryOperator<T>> pendingUpdates;
+        private boolean pendingReverse;
+        private Node leftChild;
+        private Node rightChild;
+        private Node parent;
+
+        private int height;
+        private int childrenCount;
+        private long weight;
+        private long subTreeWeight;
+
+        Node(T value) {
+            this.value = value;
+            this.aggregate = value;
+            this.reversedAggregate = value;
+            updateWeight();
+            this.subTreeWeight = weight;
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            return comparator.compare(value, other.value);
+        }
+
+        private void setLeftChild(Node node) {
+            if (node != null) {
+                node.parent = this;
+            }
+            leftChild = node;
+        }
+
+        private void setRightChild(Node node) {
+            if (node != null) {
+                node.parent = this;
+            }
+            rightChild = node;
+        }
+
+        private int imbalance() {
+            return balancing.imbalance(height(leftChild), size(leftChild), height(rightChild), size(rightChild));
+        }
+
+        private boolean needsDoubleRotation(Node inner, Node outer) {
+            return balancing.needsDoubleRotation(height(inner), size(inner), height(outer), size(outer));
+        }
+
+        /**
+         * Applies {@code operation} to this node and records it for the children. Pending operations are kept in
+         * order in a list rather than composed into one function, so that any number of them can be pushed down
+         * without nesting calls.
+         */
+        private void update(UnaryOperator<T> operation) {
+            value = operation.apply(value);
+            if (pendingUpdates == null) {
+                pendingUpdates = new ArrayList<>(1);
+            }
+            pendingUpdates.add(operation);
+        }
+
+        private void reverse() {
+            Node oldLeftChild = leftChild;
+            leftChild = rightChild;
+            rightChild = oldLeftChild;
+            T oldAggregate = aggregate;
+            aggregate = reversedAggregate;
+            reversedAggregate = oldAggregate;
+            pendingReverse = !pendingReverse;
+        }
+
+        private void pushDown() {
+            if (pendingReverse) {
+                if (leftChild != null) {
+                    leftChild.reverse();
+                }
+                if (rightChild != null) {
+                    rightChild.reverse();
+                }
+                pendingReverse = false;
+            }
+            if (pendingUpdates != null) {
+                for (UnaryOperator<T> operation : pendingUpdates) {
+                    if (leftChild != null) {
+                        leftChild.update(operation);
+                    }
+                    if (rightChild != null) {
+                        rightChild.update(operation);
+                    }
+                }
+                pendingUpdates = null;
+            }
+        }
+
+        private void setChildren(Node left, Node right) {
+            leftChild = left;
+            rightChild = right;
+            if (left != null) {
+                left.parent = this;
+            }
+            if (right != null) {
+                right.parent = this;
+            }
+            recompute();
+        }
+
+        private void updateWeight() {
+            weight = weigh(value);
+        }
+
+        private long weigh(T value) {
+            if (weigher == null) {
+                return 0;
+            }
+            long weight = weigher.applyAsLong(value);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + value + " is negative: " + weight);
+            }
+            return weight;
+        }
+
+        private void recompute() {
+            height = Math.max(height(leftChild), height(rightChild)) + 1;
+
+            int leftSubTreeChildrenCount = leftChild == null ? 0 : leftChild.childrenCount + 1;
+            int rightSubTreeChildrenCount = rightChild == null ? 0 : rightChild.childrenCount + 1;
+            childrenCount = leftSubTreeChildrenCount + rightSubTreeChildrenCount;
+
+            if (combiner != null) {
+                T leftAggregate = leftChild == null ? null : leftChild.aggregate;
+                T rightAggregate = rightChild == null ? null : rightChild.aggregate;
+                aggregate = combine(combine(leftAggregate, value), rightAggregate);
+                T leftReversedAggregate = leftChild == null ? null : leftChild.reversedAggregate;
+                T rightReversedAggregate = rightChild == null ? null : rightChild.reversedAggregate;
+                reversedAggregate = combine(combine(rightReversedAggregate, value), leftReversedAggregate);
+            }
+            if (weigher != null) {
+                subTreeWeight = weight(leftChild) + weight + weight(rightChild);
+            }
+        }
+
+        private Node balanceTree() {
+            Node current = this;
+            int pathLength = 0;
+            while (true) {
+                pathLength++;
+                current.pushDown();
+                current.recompute();
+                int imbalance = current.imbalance();
+                if (imbalance < 0) {
+                    Node heavyChild = current.rightChild;
+                    heavyChild.pushDown();
+                    if (heavyChild.needsDoubleRotation(heavyChild.leftChild, heavyChild.rightChild)) {
+                        heavyChild.leftChild.rightRotate();
+                    }
+                    current.rightChild.leftRotate();
+                } else if (imbalance > 0) {
+                    Node heavyChild = current.leftChild;
+                    heavyChild.pushDown();
+                    if (heavyChild.needsDoubleRotation(heavyChild.rightChild, heavyChild.leftChild)) {
+                        heavyChild.rightChild.leftRotate();
+                    }
+                    current.leftChild.rightRotate();
+                }
+
+                if (current.parent == null) {
+                    if (TreeMetrics.ENABLED) {
+                        TreeMetrics.recordBalancePath(pathLength);
+                    }
+                    return current;
+                } else {
+                    current = current.parent;
+                }
+            }
+        }
+
+        private void leftRotate() {
+            if (TreeMetrics.ENABLED) {
+                TreeMetrics.recordLeftRotation();
+            }
+            parent.pushDown();
+            pushDown();
+            Node oldParent = parent;
+            Node grandParent = getGrandParent();
+
+            if (grandParent != null) {
+                if (parent.isLeftChild()) {
+                    grandParent.leftChild = this;
+                } else {
+                    grandParent.rightChild = this;
+                }
+            }
+            this.parent = grandParent;
+
+            Node oldLeftChild = leftChild;
+            oldParent.parent = this;
+            leftChild = oldParent;
+            if (oldLeftChild != null) {
+                oldLeftChild.parent = oldParent;
+            }
+            oldParent.rightChild = oldLeftChild;
+
+            oldParent.recompute();
+            recompute();
+        }
+
+        private void rightRotate() {
+            if (TreeMetrics.ENABLED) {
+                TreeMetrics.recordRightRotation();
+            }
+            parent.pushDown();
+            pushDown();
+            Node oldParent = parent;
+            Node grandParent = getGrandParent();
+
+            if (grandParent != null) {
+                if (parent.isLeftChild()) {
+                    grandParent.leftChild = this;
+                } else {
+                    grandParent.rightChild = this;
+                }
+            }
+            this.parent = grandParent;
+
+            oldParent.parent = this;
+            Node oldRightChild = rightChild;
+            rightChild = oldParent;
+            if (oldRightChild != null) {
+                oldRightChild.parent = oldParent;
+            }
+            oldParent.leftChild = oldRightChild;
+            oldParent.recompute();
+            recompute();
+        }
+
+        protected Node successor() {
+            pushDown();
+            Node successor = null;
+            if (rightChild != null) {
+                successor = rightChild.smallestNodeInSubTree();
+            } else if (parent != null) {
+                Node current = this;
+                while (current != null && current.isRightChild()) {
+                    current = current.parent;
+                }
+                successor = current != null ? current.parent : null;
+            }
+            return successor;
+        }
+
+        protected Node predecessor() {
+            pushDown();
+            Node predecessor = null;
+            if (leftChild != null) {
+                predecessor = leftChild.largestNodeInSubTree();
+            } else if (parent != null) {
+                Node current = this;
+                while (current != null && current.isLeftChild()) {
+                    current = current.parent;
+                }
+                predecessor = current != null ? current.parent : null;
+            }
+            return predecessor;
+        }
+
+        private Node smallestNodeInSubTree(){
+            Node current = this;
+            while (true) {
+                current.pushDown();
+                if(current.leftChild == null) {
+                    break;
+                } else {
+                    current = current.leftChild;
+                }
+            }
+            return current;
+        }
+
+        private Node largestNodeInSubTree() {
+            Node current = this;
+            current.pushDown();
+            while (current.rightChild != null) {
+                current = current.rightChild;
+                current.pushDown();
+            }
+            return current;
+        }
+
+        private void detach() {
+            if (leftChild != null) {
+                leftChild.parent = null;
+            }
+            if (rightChild != null) {
+                rightChild.parent = null;
+            }
+            leftChild = null;
+            rightChild = null;
+            parent = null;
+        }
+
+        private Node getGrandParent() {
+            if (parent == null) {
+                return null;
+            }
+            if (parent.parent == null) {
+                return null;
+            }
+            return parent.parent;
+        }
+
+        @Override
+        public String toString() {
+            String rv = "";
+            if (leftChild != null) {
+                rv += "(" + leftChild.toString() + ")";
+            }
+            rv += value;
+            if (rightChild != null) {
+                rv += "(" + rightChild.toString() + ")";
+            }
+            return rv;
+        }
+
+        protected boolean isLeftChild() {
+            return parent != null && parent.leftChild == this;
+        }
+
+        private boolean isRightChild() {
+            return parent != null && parent.rightChild == this;
+        }
+
+        protected int sizeOfSubTree() {
+            return 1 + childrenCount;
+        }
+
+        private boolean hasTwoChildren() {
+            return leftChild != null && rightChild != null;
+        }
+
+        protected T getValue() {
+            return value;
+        }
+
+        protected void setValue(T value) {
+            long weight = weigh(value);
+            this.value = value;
+            this.weight = weight;
+            if (combiner != null || weigher != null) {
+                int pathLength = 0;
+                for (Node current = this; current != null; current = current.parent) {
+                    current.recompute();
+                    pathLength++;
+                }
+                if (TreeMetrics.ENABLED) {
+                    TreeMetrics.recordRecompute(pathLength);
+                }
+            }
+        }
+
+        /**
+         * Sets the value without recomputing the ancestors, for callers that rebuild the tree afterwards.
+         */
+        protected void assignValue(T value) {
+            this.weight = weigh(value);
+            this.value = value;
+        }
+
+        protected Node getParent() {
+            return parent;
+        }
+
+        protected Node getLeftChild() {
+            pushDown();
+            return leftChild;
+        }
+
+        protected Node getRightChild() {
+            pushDown();
+            return rightChild;
+        }
+
+
+    }
+
+}
@@ -0,0 +1,296 @@
+package loglist;
+
+/**
+ * An AVL tree whose nodes are integer ids, linked and counted through accessors, so that the node fields can be
+ * kept in arrays ({@link IndexedAVLTree}) or in a file ({@link MappedLogList}). Removed nodes are kept in a free
+ * list linked through their left child and reused.
+ */
+abstract class AbstractIndexedAVLTree {
+    protected static final int NIL = -1;
+
+    private int root = NIL;
+    private int freeNode = NIL;
+    private int usedNodeCount;
+    protected int modificationCount;
+
+    abstract int leftChild(int node);
+
+    abstract int rightChild(int node);
+
+    abstract int parent(int node);
+
+    abstract int childrenCount(int node);
+
+    abstract int height(int node);
+
+    abstract void setLeftChild(int node, int child);
+
+    abstract void setRightChild(int node, int child);
+
+    abstract void setParent(int node, int parent);
+
+    abstract void setChildrenCount(int node, int childrenCount);
+
+    abstract void setHeight(int node, int height);
+
+    /**
+     * Makes room for the nodes {@code 0} to {@code nodeCount - 1}.
+     */
+    abstract void ensureNodeCapacity(int nodeCount);
+
+    protected abstract void copyValue(int from, int to);
+
+    protected void clearValue(int node) {
+    }
+
+    public int size() {
+        return (root == NIL) ? 0 : 1 + childrenCount(root);
+    }
+
+    public boolean isEmpty() {
+        return root == NIL;
+    }
+
+    public void clear() {
+        for (int node = 0; node < usedNodeCount; ++node) {
+            clearValue(node);
+        }
+        root = NIL;
+        freeNode = NIL;
+        usedNodeCount = 0;
+        modificationCount++;
+    }
+
+    int root() {
+        return root;
+    }
+
+    int freeNode() {
+        return freeNode;
+    }
+
+    int usedNodeCount() {
+        return usedNodeCount;
+    }
+
+    /**
+     * Resets the tree to a state saved from {@link #root()}, {@link #freeNode()} and {@link #usedNodeCount()}, whose
+     * nodes are already in place.
+     */
+    void restore(int root, int freeNode, int usedNodeCount) {
+        this.root = root;
+        this.freeNode = freeNode;
+        this.usedNodeCount = usedNodeCount;
+        modificationCount++;
+    }
+
+    protected int findNodeAtIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+        int current = root;
+        while (true) {
+            int leftSubTreeSize = sizeOfSubTree(leftChild(current));
+            if (index == leftSubTreeSize) {
+                return current;
+            }
+            if (index < leftSubTreeSize) {
+                current = leftChild(current);
+            } else {
+                index -= leftSubTreeSize + 1;
+                current = rightChild(current);
+            }
+        }
+    }
+
+    protected int addNode(int index) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        int node = allocateNode();
+        if (root == NIL) {
+            root = node;
+        } else {
+            int current = root;
+            int smallerElements = index;
+            while (true) {
+                int leftSubTreeSize = sizeOfSubTree(leftChild(current));
+                if (smallerElements <= leftSubTreeSize) {
+                    if (leftChild(current) == NIL) {
+                        setLeftChild(current, node);
+                        break;
+                    } else {
+                        current = leftChild(current);
+                    }
+                } else {
+                    smallerElements -= leftSubTreeSize + 1;
+                    if (rightChild(current) == NIL) {
+                        setRightChild(current, node);
+                        break;
+                    } else {
+                        current = rightChild(current);
+                    }
+                }
+            }
+            setParent(node, current);
+            balanceTree(current);
+        }
+        modificationCount++;
+        return node;
+    }
+
+    protected void removeNode(int node) {
+        if (leftChild(node) != NIL && rightChild(node) != NIL) {
+            int successor = successor(node);
+            copyValue(successor, node);
+            node = successor;
+        }
+        int child = (leftChild(node) != NIL) ? leftChild(node) : rightChild(node);
+        int oldParent = parent(node);
+        replaceChild(oldParent, node, child);
+        if (child != NIL) {
+            setParent(child, oldParent);
+        }
+        if (oldParent != NIL) {
+            balanceTree(oldParent);
+        }
+        releaseNode(node);
+        modificationCount++;
+    }
+
+    protected int firstNode() {
+        if (root == NIL) {
+            return NIL;
+        }
+        int current = root;
+        while (leftChild(current) != NIL) {
+            current = leftChild(current);
+        }
+        return current;
+    }
+
+    protected int successor(int node) {
+        if (rightChild(node) != NIL) {
+            int current = rightChild(node);
+            while (leftChild(current) != NIL) {
+                current = leftChild(current);
+            }
+            return current;
+        }
+        int current = node;
+        while (parent(current) != NIL && rightChild(parent(current)) == current) {
+            current = parent(current);
+        }
+        return parent(current);
+    }
+
+    private int allocateNode() {
+        int node;
+        if (freeNode != NIL) {
+            node = freeNode;
+            freeNode = leftChild(node);
+        } else {
+            ensureNodeCapacity(usedNodeCount + 1);
+            node = usedNodeCount++;
+        }
+        setLeftChild(node, NIL);
+        setRightChild(node, NIL);
+        setParent(node, NIL);
+        setChildrenCount(node, 0);
+        setHeight(node, 0);
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        clearValue(node);
+        setLeftChild(node, freeNode);
+        freeNode = node;
+    }
+
+    private void balanceTree(int node) {
+        int current = node;
+        while (true) {
+            recompute(current);
+            int balanceFactor = getBalanceFactor(current);
+            if (balanceFactor == -2) {
+                if (getBalanceFactor(rightChild(current)) == 1) {
+                    rightRotate(leftChild(rightChild(current)));
+                }
+                leftRotate(rightChild(current));
+            } else if (balanceFactor == 2) {
+                if (getBalanceFactor(leftChild(current)) == -1) {
+                    leftRotate(rightChild(leftChild(current)));
+                }
+                rightRotate(leftChild(current));
+            }
+
+            if (parent(current) == NIL) {
+                root = current;
+                break;
+            } else {
+                current = parent(current);
+            }
+        }
+    }
+
+    private void leftRotate(int node) {
+        int oldParent = parent(node);
+        replaceChild(parent(oldParent), oldParent, node);
+        setParent(node, parent(oldParent));
+
+        int oldLeftChild = leftChild(node);
+        setParent(oldParent, node);
+        setLeftChild(node, oldParent);
+        if (oldLeftChild != NIL) {
+            setParent(oldLeftChild, oldParent);
+        }
+        setRightChild(oldParent, oldLeftChild);
+
+        recompute(oldParent);
+        recompute(node);
+    }
+
+    private void rightRotate(int node) {
+        int oldParent = parent(node);
+        replaceChild(parent(oldParent), oldParent, node);
+        setParent(node, parent(oldParent));
+
+        int oldRightChild = rightChild(node);
+        setParent(oldParent, node);
+        setRightChild(node, oldParent);
+        if (oldRightChild != NIL) {
+            setParent(oldRightChild, oldParent);
+        }
+        setLeftChild(oldParent, oldRightChild);
+
+        recompute(oldParent);
+        recompute(node);
+    }
+
+    private void replaceChild(int parentNode, int oldChild, int newChild) {
+        if (parentNode == NIL) {
+            root = newChild;
+        } else if (leftChild(parentNode) == oldChild) {
+            setLeftChild(parentNode, newChild);
+        } else {
+            setRightChild(parentNode, newChild);
+        }
+    }
+
+    private void recompute(int node) {
+        setHeight(node, Math.max(heightOfSubTree(leftChild(node)), heightOfSubTree(rightChild(node))) + 1);
+        setChildrenCount(node, sizeOfSubTree(leftChild(node)) + sizeOfSubTree(rightChild(node)));
+    }
+
+    private int getBalanceFactor(int node) {
+        return heightOfSubTree(leftChild(node)) - heightOfSubTree(rightChild(node));
+    }
+
+    private int heightOfSubTree(int node) {
+        return (node == NIL) ? -1 : height(node);
+    }
+
+    private int sizeOfSubTree(int node) {
+        return (node == NIL) ? 0 : 1 + childrenCount(node);
+    }
+}
@@ -0,0 +1,74 @@
+package loglist;
+
+/**
+ * The rebalancing rule of an {@link AVLTree}. Both strategies share the tree's rotations and join; they differ in
+ * when a node counts as unbalanced, which rotation repairs it and where a join attaches the smaller tree.
+ */
+public enum BalancingStrategy {
+    /**
+     * Subtree heights may differ by at most one.
+     */
+    AVL {
+        @Override
+        int imbalance(int leftHeight, int leftSize, int rightHeight, int rightSize) {
+            return (Math.abs(leftHeight - rightHeight) > 1) ? leftHeight - rightHeight : 0;
+        }
+
+        @Override
+        boolean needsDoubleRotation(int innerHeight, int innerSize, int outerHeight, int outerSize) {
+            return innerHeight > outerHeight;
+        }
+
+        @Override
+        boolean canJoin(int smallerHeight, int smallerSize, int largerHeight, int largerSize) {
+            return largerHeight <= smallerHeight + 1;
+        }
+    },
+
+    /**
+     * Subtree weights (size + 1) may differ by at most a factor of three, decided from {@code childrenCount} alone.
+     * The tree may be deeper than an AVL tree of the same size.
+     */
+    WEIGHT_BALANCED {
+        private static final int DELTA = 3;
+        private static final int GAMMA = 2;
+
+        @Override
+        int imbalance(int leftHeight, int leftSize, int rightHeight, int rightSize) {
+            if (leftSize + 1 > DELTA * (rightSize + 1)) {
+                return 1;
+            }
+            if (rightSize + 1 > DELTA * (leftSize + 1)) {
+                return -1;
+            }
+            return 0;
+        }
+
+        @Override
+        boolean needsDoubleRotation(int innerHeight, int innerSize, int outerHeight, int outerSize) {
+            return innerSize + 1 >= GAMMA * (outerSize + 1);
+        }
+
+        @Override
+        boolean canJoin(int smallerHeight, int smallerSize, int largerHeight, int largerSize) {
+            return largerSize + 1 <= DELTA * (smallerSize + 1);
+        }
+    };
+
+    /**
+     * Returns a positive number when the left subtree is too heavy, a negative one when the right one is and zero
+     * when the node is balanced.
+     */
+    abstract int imbalance(int leftHeight, int leftSize, int rightHeight, int rightSize);
+
+    /**
+     * Tells whether the heavy child must first be rotated the other way because its inner grandchild, the one
+     * closer to the unbalanced node, outweighs the outer one.
+     */
+    abstract boolean needsDoubleRotation(int innerHeight, int innerSize, int outerHeight, int outerSize);
+
+    /**
+     * Tells whether a join may put the two trees side by side under one new node.
+     */
+    abstract boolean canJoin(int smallerHeight, int smallerSize, int largerHeight, int largerSize);
+}
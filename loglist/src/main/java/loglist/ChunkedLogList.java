@@ -0,0 +1,322 @@
+package loglist;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public class ChunkedLogList<T> extends AbstractList<T> {
+    private static final int CHUNK_CAPACITY = 128;
+    private static final int BRANCHING_FACTOR = 64;
+
+    private Node root = new Leaf();
+
+    public ChunkedLogList() {
+    }
+
+    public ChunkedLogList(Collection<? extends T> collection) {
+        addAll(collection);
+    }
+
+    @Override
+    public T get(int index) {
+        return access(index, null);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        return access(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        Node sibling = insert(root, index, element);
+        if (sibling != null) {
+            Inner newRoot = new Inner();
+            newRoot.insertChild(0, root);
+            newRoot.insertChild(1, sibling);
+            root = newRoot;
+        }
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+        T removedElement = remove(root, index);
+        while (root instanceof Inner && ((Inner) root).childCount == 1) {
+            root = ((Inner) root).children[0];
+        }
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public int size() {
+        return root.size;
+    }
+
+    @Override
+    public void clear() {
+        root = new Leaf();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Leaf leaf;
+            private int offset;
+            private int nextIndex;
+            private boolean canRemove;
+            private int expectedModificationCount = modCount;
+
+            {
+                seek(0);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (offset == leaf.size) {
+                    leaf = leaf.next;
+                    offset = 0;
+                }
+                nextIndex++;
+                canRemove = true;
+                return (T) leaf.elements[offset++];
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                ChunkedLogList.this.remove(--nextIndex);
+                seek(nextIndex);
+                canRemove = false;
+                expectedModificationCount = modCount;
+            }
+
+            private void seek(int index) {
+                Node node = root;
+                while (node instanceof Inner) {
+                    Inner inner = (Inner) node;
+                    int child = 0;
+                    while (child < inner.childCount - 1 && index >= inner.sizes[child]) {
+                        index -= inner.sizes[child];
+                        child++;
+                    }
+                    node = inner.children[child];
+                }
+                leaf = (Leaf) node;
+                offset = index;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private T access(int index, T replacement) {
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+        Node node = root;
+        while (node instanceof Inner) {
+            Inner inner = (Inner) node;
+            int child = 0;
+            while (index >= inner.sizes[child]) {
+                index -= inner.sizes[child];
+                child++;
+            }
+            node = inner.children[child];
+        }
+        Object[] elements = ((Leaf) node).elements;
+        T element = (T) elements[index];
+        if (replacement != null) {
+            elements[index] = replacement;
+        }
+        return element;
+    }
+
+    private Node insert(Node node, int index, T element) {
+        if (node instanceof Leaf) {
+            return ((Leaf) node).insert(index, element);
+        }
+        Inner inner = (Inner) node;
+        int child = 0;
+        while (child < inner.childCount - 1 && index > inner.sizes[child]) {
+            index -= inner.sizes[child];
+            child++;
+        }
+        Node sibling = insert(inner.children[child], index, element);
+        inner.size += inner.children[child].size - inner.sizes[child];
+        inner.sizes[child] = inner.children[child].size;
+        if (sibling == null) {
+            return null;
+        }
+        inner.insertChild(child + 1, sibling);
+        return (inner.childCount > BRANCHING_FACTOR) ? inner.split() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T remove(Node node, int index) {
+        if (node instanceof Leaf) {
+            return (T) ((Leaf) node).remove(index);
+        }
+        Inner inner = (Inner) node;
+        int child = 0;
+        while (index >= inner.sizes[child]) {
+            index -= inner.sizes[child];
+            child++;
+        }
+        T removedElement = remove(inner.children[child], index);
+        inner.size--;
+        inner.sizes[child]--;
+        if (inner.children[child].isUnderflowing()) {
+            if (child > 0) {
+                inner.mergeIfFits(child - 1);
+            } else if (inner.childCount > 1) {
+                inner.mergeIfFits(child);
+            }
+        }
+        return removedElement;
+    }
+
+    private abstract static class Node {
+        int size;
+
+        abstract boolean isUnderflowing();
+    }
+
+    private static final class Leaf extends Node {
+        final Object[] elements = new Object[CHUNK_CAPACITY];
+        Leaf next;
+
+        Leaf insert(int index, Object element) {
+            if (size < CHUNK_CAPACITY) {
+                System.arraycopy(elements, index, elements, index + 1, size - index);
+                elements[index] = element;
+                size++;
+                return null;
+            }
+            Leaf right = new Leaf();
+            int half = size / 2;
+            System.arraycopy(elements, half, right.elements, 0, size - half);
+            Arrays.fill(elements, half, size, null);
+            right.size = size - half;
+            size = half;
+            right.next = next;
+            next = right;
+            if (index <= size) {
+                insert(index, element);
+            } else {
+                right.insert(index - size, element);
+            }
+            return right;
+        }
+
+        Object remove(int index) {
+            Object removedElement = elements[index];
+            System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+            elements[--size] = null;
+            return removedElement;
+        }
+
+        @Override
+        boolean isUnderflowing() {
+            return size < CHUNK_CAPACITY / 4;
+        }
+    }
+
+    private static final class Inner extends Node {
+        final Node[] children = new Node[BRANCHING_FACTOR + 1];
+        final int[] sizes = new int[BRANCHING_FACTOR + 1];
+        int childCount;
+
+        void insertChild(int position, Node child) {
+            System.arraycopy(children, position, children, position + 1, childCount - position);
+            System.arraycopy(sizes, position, sizes, position + 1, childCount - position);
+            children[position] = child;
+            sizes[position] = child.size;
+            childCount++;
+            size += child.size;
+        }
+
+        void removeChild(int position) {
+            size -= sizes[position];
+            System.arraycopy(children, position + 1, children, position, childCount - position - 1);
+            System.arraycopy(sizes, position + 1, sizes, position, childCount - position - 1);
+            children[--childCount] = null;
+        }
+
+        Inner split() {
+            Inner right = new Inner();
+            int half = childCount / 2;
+            for (int i = half; i < childCount; ++i) {
+                right.insertChild(i - half, children[i]);
+            }
+            while (childCount > half) {
+                removeChild(childCount - 1);
+            }
+            return right;
+        }
+
+        void mergeIfFits(int position) {
+            Node left = children[position];
+            Node right = children[position + 1];
+            if (left instanceof Leaf) {
+                Leaf leftLeaf = (Leaf) left;
+                Leaf rightLeaf = (Leaf) right;
+                if (leftLeaf.size + rightLeaf.size > CHUNK_CAPACITY) {
+                    return;
+                }
+                System.arraycopy(rightLeaf.elements, 0, leftLeaf.elements, leftLeaf.size, rightLeaf.size);
+                leftLeaf.size += rightLeaf.size;
+                leftLeaf.next = rightLeaf.next;
+            } else {
+                Inner leftInner = (Inner) left;
+                Inner rightInner = (Inner) right;
+                if (leftInner.childCount + rightInner.childCount > BRANCHING_FACTOR) {
+                    return;
+                }
+                for (int i = 0; i < rightInner.childCount; ++i) {
+                    leftInner.insertChild(leftInner.childCount, rightInner.children[i]);
+                }
+            }
+            sizes[position] = left.size;
+            removeChild(position + 1);
+            size += right.size;
+        }
+
+        @Override
+        boolean isUnderflowing() {
+            return childCount < BRANCHING_FACTOR / 4;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package loglist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+/**
+ * A {@link LogList}-like list whose operations are guarded by a {@link StampedLock}: reads first try an optimistic
+ * descent, writes take the write lock. Iterators work on a copy taken under the read lock. The {@link #subList}
+ * view inherited from {@link AbstractList} is not lock-protected: it detects changes made through this list only
+ * on a best-effort basis, so concurrent code should copy the range instead.
+ */
+public class ConcurrentLogList<T> extends AbstractList<T> {
+    private static final int MAX_OPTIMISTIC_DEPTH = 64;
+
+    private final AVLTree<T> tree = new AVLTree<>((a, b) -> 0);
+    private final StampedLock lock = new StampedLock();
+
+    public ConcurrentLogList() {
+    }
+
+    public ConcurrentLogList(Collection<? extends T> collection) {
+        addAll(collection);
+    }
+
+    @Override
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int expectedModificationCount = tree.modificationCount;
+            T value = descend(index);
+            if (value != null && lock.validate(stamp) && tree.modificationCount == expectedModificationCount) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            if (index < 0 || index >= tree.size()) {
+                throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+            }
+            return descend(index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            int expectedModificationCount = tree.modificationCount;
+            AVLTree<T>.Node root = tree.getRoot();
+            int size = (root == null) ? 0 : root.sizeOfSubTree();
+            if (lock.validate(stamp) && tree.modificationCount == expectedModificationCount) {
+                return size;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return tree.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        long stamp = lock.writeLock();
+        try {
+            AVLTree<T>.Node node = tree.findNodeAtIndex(index);
+            T replacedElement = node.getValue();
+            node.setValue(element);
+            return replacedElement;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > tree.size()) {
+                throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+            }
+            tree.add(index, element);
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element);
+        long stamp = lock.writeLock();
+        try {
+            tree.add(tree.size(), element);
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        Object[] elements = collection.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Iterator<T> values = (Iterator<T>) Arrays.asList(elements).iterator();
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > tree.size()) {
+                throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+            }
+            tree.addAll(index, values, elements.length);
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] elements = collection.toArray();
+        if (elements.length == 0) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        Iterator<T> values = (Iterator<T>) Arrays.asList(elements).iterator();
+        long stamp = lock.writeLock();
+        try {
+            tree.addAll(tree.size(), values, elements.length);
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            T removedElement = tree.remove(index);
+            modCount++;
+            return removedElement;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        long stamp = lock.writeLock();
+        try {
+            AVLTree<T>.Node current = (tree.size() == 0) ? null : tree.findNodeAtIndex(0);
+            for (int index = 0; current != null; ++index) {
+                if (Objects.equals(element, current.getValue())) {
+                    tree.remove(index);
+                    modCount++;
+                    return true;
+                }
+                current = current.successor();
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Rebuilds the tree from the elements that do not match {@code filter} while holding the write lock, in O(n).
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        long stamp = lock.writeLock();
+        try {
+            List<T> keptElements = new ArrayList<>(tree.size());
+            tree.forEach(element -> {
+                if (!filter.test(element)) {
+                    keptElements.add(element);
+                }
+            });
+            if (keptElements.size() == tree.size()) {
+                return false;
+            }
+            tree.clear();
+            tree.addAll(0, keptElements.iterator(), keptElements.size());
+            modCount++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            tree.clear();
+            modCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        long stamp = lock.readLock();
+        try {
+            List<Object> elements = new ArrayList<>(tree.size());
+            tree.forEach(elements::add);
+            return elements.toArray();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        return (Iterator<T>) Collections.unmodifiableList(Arrays.asList(toArray())).iterator();
+    }
+
+    /**
+     * Finds the element at {@code index} from the root without going through {@link AVLTree#findNodeAtIndex}, which
+     * moves the tree's finger. Readers share the tree, so they must not write to it. Without a lock the result is
+     * only meaningful once validated, and it is null if the walk got lost in a concurrent rebalancing.
+     */
+    private T descend(int index) {
+        AVLTree<T>.Node current = tree.getRoot();
+        for (int depth = 0; current != null && depth < MAX_OPTIMISTIC_DEPTH; ++depth) {
+            AVLTree<T>.Node leftChild = current.getLeftChild();
+            int leftSubTreeSize = (leftChild == null) ? 0 : leftChild.sizeOfSubTree();
+            if (index == leftSubTreeSize) {
+                return current.getValue();
+            }
+            if (index < leftSubTreeSize) {
+                current = leftChild;
+            } else {
+                index -= leftSubTreeSize + 1;
+                current = current.getRightChild();
+            }
+        }
+        return null;
+    }
+}
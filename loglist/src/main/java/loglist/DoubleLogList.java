@@ -0,0 +1,68 @@
+package loglist;
+
+import java.util.Arrays;
+
+public class DoubleLogList extends IndexedAVLTree {
+    private double[] values;
+
+    public DoubleLogList() {
+        values = new double[capacity()];
+    }
+
+    public DoubleLogList(int initialCapacity) {
+        super(initialCapacity);
+        values = new double[capacity()];
+    }
+
+    public double getDouble(int index) {
+        return values[findNodeAtIndex(index)];
+    }
+
+    public double set(int index, double value) {
+        int node = findNodeAtIndex(index);
+        double replacedValue = values[node];
+        values[node] = value;
+        return replacedValue;
+    }
+
+    public void add(double value) {
+        add(size(), value);
+    }
+
+    public void add(int index, double value) {
+        int node = addNode(index);
+        values[node] = value;
+    }
+
+    public double removeDouble(int index) {
+        int node = findNodeAtIndex(index);
+        double removedValue = values[node];
+        removeNode(node);
+        return removedValue;
+    }
+
+    public double[] toArray() {
+        double[] array = new double[size()];
+        int node = firstNode();
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = values[node];
+            node = successor(node);
+        }
+        return array;
+    }
+
+    @Override
+    protected void growValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void copyValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
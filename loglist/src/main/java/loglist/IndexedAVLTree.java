@@ -0,0 +1,101 @@
+package loglist;
+
+import java.util.Arrays;
+
+public abstract class IndexedAVLTree extends AbstractIndexedAVLTree {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] leftChild;
+    private int[] rightChild;
+    private int[] parent;
+    private int[] childrenCount;
+    private byte[] height;
+
+    protected IndexedAVLTree() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    protected IndexedAVLTree(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        leftChild = new int[initialCapacity];
+        rightChild = new int[initialCapacity];
+        parent = new int[initialCapacity];
+        childrenCount = new int[initialCapacity];
+        height = new byte[initialCapacity];
+    }
+
+    protected int capacity() {
+        return parent.length;
+    }
+
+    protected abstract void growValues(int capacity);
+
+    @Override
+    final int leftChild(int node) {
+        return leftChild[node];
+    }
+
+    @Override
+    final int rightChild(int node) {
+        return rightChild[node];
+    }
+
+    @Override
+    final int parent(int node) {
+        return parent[node];
+    }
+
+    @Override
+    final int childrenCount(int node) {
+        return childrenCount[node];
+    }
+
+    @Override
+    final int height(int node) {
+        return height[node];
+    }
+
+    @Override
+    final void setLeftChild(int node, int child) {
+        leftChild[node] = child;
+    }
+
+    @Override
+    final void setRightChild(int node, int child) {
+        rightChild[node] = child;
+    }
+
+    @Override
+    final void setParent(int node, int parent) {
+        this.parent[node] = parent;
+    }
+
+    @Override
+    final void setChildrenCount(int node, int childrenCount) {
+        this.childrenCount[node] = childrenCount;
+    }
+
+    @Override
+    final void setHeight(int node, int height) {
+        this.height[node] = (byte) height;
+    }
+
+    @Override
+    final void ensureNodeCapacity(int nodeCount) {
+        if (nodeCount > capacity()) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(DEFAULT_CAPACITY, capacity() + (capacity() >> 1));
+        leftChild = Arrays.copyOf(leftChild, newCapacity);
+        rightChild = Arrays.copyOf(rightChild, newCapacity);
+        parent = Arrays.copyOf(parent, newCapacity);
+        childrenCount = Arrays.copyOf(childrenCount, newCapacity);
+        height = Arrays.copyOf(height, newCapacity);
+        growValues(newCapacity);
+    }
+}
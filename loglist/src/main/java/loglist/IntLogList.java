@@ -0,0 +1,68 @@
+package loglist;
+
+import java.util.Arrays;
+
+public class IntLogList extends IndexedAVLTree {
+    private int[] values;
+
+    public IntLogList() {
+        values = new int[capacity()];
+    }
+
+    public IntLogList(int initialCapacity) {
+        super(initialCapacity);
+        values = new int[capacity()];
+    }
+
+    public int getInt(int index) {
+        return values[findNodeAtIndex(index)];
+    }
+
+    public int set(int index, int value) {
+        int node = findNodeAtIndex(index);
+        int replacedValue = values[node];
+        values[node] = value;
+        return replacedValue;
+    }
+
+    public void add(int value) {
+        add(size(), value);
+    }
+
+    public void add(int index, int value) {
+        int node = addNode(index);
+        values[node] = value;
+    }
+
+    public int removeInt(int index) {
+        int node = findNodeAtIndex(index);
+        int removedValue = values[node];
+        removeNode(node);
+        return removedValue;
+    }
+
+    public int[] toArray() {
+        int[] array = new int[size()];
+        int node = firstNode();
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = values[node];
+            node = successor(node);
+        }
+        return array;
+    }
+
+    @Override
+    protected void growValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void copyValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
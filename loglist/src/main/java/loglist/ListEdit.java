@@ -0,0 +1,43 @@
+package loglist;
+
+import java.util.Objects;
+
+/**
+ * A positional edit for {@link LogList#applyBatch}. Indexes refer to the list as it was before the batch.
+ */
+public final class ListEdit<T> {
+    enum Kind {
+        INSERT, SET, REMOVE
+    }
+
+    final Kind kind;
+    final int index;
+    final T value;
+
+    private ListEdit(Kind kind, int index, T value) {
+        this.kind = kind;
+        this.index = index;
+        this.value = value;
+    }
+
+    /**
+     * Inserts {@code value} before the element at {@code index}, or at the end when {@code index} is the size.
+     * Several inserts at one index keep their batch order.
+     */
+    public static <T> ListEdit<T> insert(int index, T value) {
+        return new ListEdit<>(Kind.INSERT, index, Objects.requireNonNull(value));
+    }
+
+    public static <T> ListEdit<T> set(int index, T value) {
+        return new ListEdit<>(Kind.SET, index, Objects.requireNonNull(value));
+    }
+
+    public static <T> ListEdit<T> remove(int index) {
+        return new ListEdit<>(Kind.REMOVE, index, null);
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(" + index + (value == null ? "" : ", " + value) + ")";
+    }
+}
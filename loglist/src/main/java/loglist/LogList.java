@@ -0,0 +1,909 @@
+package loglist;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * A list backed by an AVL tree ordered by position, with O(log n) access, insertion and removal at any index.
+ * <p>
+ * LogList is both a {@link List} and a {@link Deque}, and is compiled for Java 11, so it does not declare the
+ * {@code reversed()} view that both interfaces inherit from {@code SequencedCollection} on JDK 21. There the two
+ * inherited defaults conflict, so calling {@code reversed()} through {@code SequencedCollection} can fail with an
+ * {@link IncompatibleClassChangeError}. Compiling for release 21 or later requires a {@code public LogList<T>
+ * reversed()} view, as {@link java.util.LinkedList} declares.
+ */
+public class LogList<T> extends AbstractList<T> implements Deque<T> {
+    private static final int FORMAT_MAGIC = 0x4C4F474C;
+    private static final int FORMAT_VERSION = 1;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final AVLTree<T> tree;
+    private final int capacity;
+    private final int evictionBatchSize;
+    private final Consumer<? super LogList<T>> evictionListener;
+
+    public LogList() {
+        this(new AVLTree<>((a, b) -> 0));
+    }
+
+    public LogList(BinaryOperator<T> combiner) {
+        this(new AVLTree<>((a, b) -> 0, Objects.requireNonNull(combiner)));
+    }
+
+    public LogList(BalancingStrategy balancing) {
+        this(new AVLTree<>((a, b) -> 0, null, balancing));
+    }
+
+    /**
+     * Creates a list that also indexes elements by cumulative weight, such as byte offsets of variable-length
+     * entries. {@code weigher} must return a non-negative weight that does not change while the element is listed.
+     */
+    public LogList(ToLongFunction<? super T> weigher) {
+        this(new AVLTree<>((a, b) -> 0, null, BalancingStrategy.AVL, Objects.requireNonNull(weigher)));
+    }
+
+    public LogList(Collection<? extends T> collection) {
+        this();
+        tree.addAll(0, collection.iterator(), collection.size());
+    }
+
+    /**
+     * Creates a list that never holds more than {@code capacity} elements. When an insertion overflows it, at least
+     * {@code evictionBatchSize} of the oldest elements are cut off the head in one O(log n) split, and handed to
+     * {@code evictionListener} as a list of their own if it is not null. Since a new head would be evicted at once,
+     * {@link #addFirst} and {@link #push} throw {@link IllegalStateException} and {@link #offerFirst} returns false
+     * while the list is full, as for other capacity-restricted deques.
+     */
+    public LogList(int capacity, int evictionBatchSize, Consumer<? super LogList<T>> evictionListener) {
+        this(new AVLTree<>((a, b) -> 0), capacity, evictionBatchSize, evictionListener);
+        if (capacity < 1 || evictionBatchSize < 1 || evictionBatchSize > capacity) {
+            throw new IllegalArgumentException("Illegal capacity " + capacity + " or eviction batch size " + evictionBatchSize);
+        }
+    }
+
+    public LogList(int capacity, int evictionBatchSize) {
+        this(capacity, evictionBatchSize, null);
+    }
+
+    private LogList(AVLTree<T> tree) {
+        this(tree, Integer.MAX_VALUE, 1, null);
+    }
+
+    private LogList(AVLTree<T> tree, int capacity, int evictionBatchSize, Consumer<? super LogList<T>> evictionListener) {
+        this.tree = tree;
+        this.capacity = capacity;
+        this.evictionBatchSize = evictionBatchSize;
+        this.evictionListener = evictionListener;
+    }
+
+    @Override
+    public T get(int index) {
+        return tree.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        AVLTree<T>.Node node = tree.findNodeAtIndex(index);
+        T replacedElement = node.getValue();
+        node.setValue(element);
+        return replacedElement;
+    }
+
+    @Override
+    public void add(int index, T element){
+        Objects.requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        if (index == size()) {
+            tree.addLast(element);
+        } else if (index == 0) {
+            tree.addFirst(element);
+        } else {
+            tree.add(index, element);
+        }
+        modCount++;
+        evictOverflow();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        if (collection.isEmpty()) {
+            return false;
+        }
+        tree.addAll(index, collection.iterator(), collection.size());
+        modCount++;
+        evictOverflow();
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        return addAll(size(), collection);
+    }
+
+    @Override
+    public T remove(int index) {
+        T removedElement;
+        if (index == 0 && !isEmpty()) {
+            removedElement = tree.removeFirst();
+        } else if (index == size() - 1 && index > 0) {
+            removedElement = tree.removeLast();
+        } else {
+            removedElement = tree.remove(index);
+        }
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public void addFirst(T element) {
+        if (!offerFirst(element)) {
+            throw new IllegalStateException("List is full");
+        }
+    }
+
+    @Override
+    public void addLast(T element) {
+        tree.addLast(element);
+        modCount++;
+        evictOverflow();
+    }
+
+    @Override
+    public boolean offerFirst(T element) {
+        Objects.requireNonNull(element);
+        if (size() >= capacity) {
+            return false;
+        }
+        tree.addFirst(element);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(T element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public T removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        modCount++;
+        return tree.removeFirst();
+    }
+
+    @Override
+    public T removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        modCount++;
+        return tree.removeLast();
+    }
+
+    @Override
+    public T pollFirst() {
+        return isEmpty() ? null : removeFirst();
+    }
+
+    @Override
+    public T pollLast() {
+        return isEmpty() ? null : removeLast();
+    }
+
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tree.firstNode().getValue();
+    }
+
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return tree.lastNode().getValue();
+    }
+
+    @Override
+    public T peekFirst() {
+        return isEmpty() ? null : tree.firstNode().getValue();
+    }
+
+    @Override
+    public T peekLast() {
+        return isEmpty() ? null : tree.lastNode().getValue();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object element) {
+        return remove(element);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object element) {
+        int index = lastIndexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public boolean offer(T element) {
+        return offerLast(element);
+    }
+
+    @Override
+    public T remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public T poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public T element() {
+        return getFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public void push(T element) {
+        addFirst(element);
+    }
+
+    @Override
+    public T pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListIterator<T> iterator = listIterator(size());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        AVLTree<T> tail = tree.split(toIndex);
+        tree.split(fromIndex);
+        tree.concat(tail);
+        modCount++;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operation) {
+        tree.replaceAll(operation);
+        modCount++;
+    }
+
+    /**
+     * Replaces every element with {@code operation(element)} from several threads, in no particular order.
+     */
+    public void replaceAllParallel(UnaryOperator<T> operation) {
+        tree.replaceAllParallel(operation);
+        modCount++;
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        tree.forEach(action);
+    }
+
+    /**
+     * Calls {@code action} for every element from several threads, in no particular order.
+     */
+    public void forEachParallel(Consumer<? super T> action) {
+        tree.forEachParallel(action);
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        tree.sort(comparator);
+        modCount++;
+    }
+
+    public long totalWeight() {
+        return tree.totalWeight();
+    }
+
+    public long weightBefore(int index) {
+        return tree.weightBefore(index);
+    }
+
+    public int indexAtWeight(long offset) {
+        return tree.indexAtWeight(offset);
+    }
+
+    public T aggregate(int fromIndex, int toIndex) {
+        return tree.aggregate(fromIndex, toIndex);
+    }
+
+    public void updateRange(int fromIndex, int toIndex, UnaryOperator<T> operation) {
+        tree.updateRange(fromIndex, toIndex, operation);
+        modCount++;
+    }
+
+    public void reverse(int fromIndex, int toIndex) {
+        tree.reverse(fromIndex, toIndex);
+        modCount++;
+    }
+
+    public LogList<T> detachSubList(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        AVLTree<T> tail = tree.split(toIndex);
+        AVLTree<T> detached = tree.split(fromIndex);
+        tree.concat(tail);
+        modCount++;
+        return new LogList<>(detached);
+    }
+
+    /**
+     * Inserts {@code element} at {@code index} and returns a handle that follows the element while it stays in this
+     * list, whatever is inserted or removed around it.
+     */
+    public Handle<T> addHandle(int index, T element) {
+        Objects.requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        Handle<T> handle = new Handle<>(this, tree.add(index, element));
+        modCount++;
+        evictOverflow();
+        return handle;
+    }
+
+    public Handle<T> addHandle(T element) {
+        return addHandle(size(), element);
+    }
+
+    public Handle<T> handleAt(int index) {
+        return new Handle<>(this, tree.findNodeAtIndex(index));
+    }
+
+    public void splice(int index, LogList<T> other) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        if (other == this) {
+            throw new IllegalArgumentException("List can not be spliced into itself");
+        }
+        AVLTree<T> tail = tree.split(index);
+        tree.concat(other.tree);
+        tree.concat(tail);
+        modCount++;
+        other.modCount++;
+        evictOverflow();
+    }
+
+    /**
+     * Applies {@code edits}, whose indexes all refer to the list before the batch, as if they were applied one
+     * by one from the highest index down. An index may be the target of at most one set or remove. Large
+     * batches are merged with the list in one pass that rebuilds a balanced tree in O(n + k); small ones are
+     * applied individually in O(k log n).
+     */
+    public void applyBatch(List<ListEdit<T>> edits) {
+        int size = size();
+        List<ListEdit<T>> sortedEdits = new ArrayList<>(edits);
+        sortedEdits.sort(Comparator.<ListEdit<T>>comparingInt(edit -> edit.index)
+                .thenComparing(edit -> edit.kind != ListEdit.Kind.INSERT));
+        int newSize = size;
+        for (int i = 0; i < sortedEdits.size(); ++i) {
+            ListEdit<T> edit = sortedEdits.get(i);
+            int lastIndex = (edit.kind == ListEdit.Kind.INSERT) ? size : size - 1;
+            if (edit.index < 0 || edit.index > lastIndex) {
+                throw new ArrayIndexOutOfBoundsException("Index " + edit.index + " is out of bounds");
+            }
+            if (edit.kind != ListEdit.Kind.INSERT && i > 0 && sortedEdits.get(i - 1).index == edit.index
+                    && sortedEdits.get(i - 1).kind != ListEdit.Kind.INSERT) {
+                throw new IllegalArgumentException("Index " + edit.index + " is edited more than once");
+            }
+            if (edit.kind == ListEdit.Kind.INSERT) {
+                newSize++;
+            } else if (edit.kind == ListEdit.Kind.REMOVE) {
+                newSize--;
+            }
+        }
+        if (sortedEdits.isEmpty()) {
+            return;
+        }
+
+        int depth = 32 - Integer.numberOfLeadingZeros(size);
+        if ((long) sortedEdits.size() * depth < size) {
+            for (int i = sortedEdits.size() - 1; i >= 0; --i) {
+                ListEdit<T> edit = sortedEdits.get(i);
+                if (edit.kind == ListEdit.Kind.INSERT) {
+                    tree.add(edit.index, edit.value);
+                } else if (edit.kind == ListEdit.Kind.SET) {
+                    tree.findNodeAtIndex(edit.index).setValue(edit.value);
+                } else {
+                    tree.remove(edit.index);
+                }
+            }
+        } else {
+            List<AVLTree<T>.Node> nodes = new ArrayList<>(newSize);
+            List<AVLTree<T>.Node> removedNodes = new ArrayList<>();
+            AVLTree<T>.Node next = (size == 0) ? null : tree.findNodeAtIndex(0);
+            int nextEdit = 0;
+            for (int index = 0; index <= size; ++index) {
+                while (nextEdit < sortedEdits.size() && sortedEdits.get(nextEdit).index == index
+                        && sortedEdits.get(nextEdit).kind == ListEdit.Kind.INSERT) {
+                    nodes.add(tree.new Node(sortedEdits.get(nextEdit++).value));
+                }
+                if (index == size) {
+                    break;
+                }
+                if (nextEdit < sortedEdits.size() && sortedEdits.get(nextEdit).index == index) {
+                    ListEdit<T> edit = sortedEdits.get(nextEdit++);
+                    if (edit.kind == ListEdit.Kind.SET) {
+                        next.assignValue(edit.value);
+                        nodes.add(next);
+                    } else {
+                        removedNodes.add(next);
+                    }
+                } else {
+                    nodes.add(next);
+                }
+                next = next.successor();
+            }
+            tree.rebuild(nodes, removedNodes);
+        }
+        modCount++;
+        evictOverflow();
+    }
+
+    /**
+     * Writes the list in order to {@code out} without copying it. The stream is flushed but not closed.
+     */
+    public void writeTo(OutputStream out, ElementCodec<? super T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(FORMAT_MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(size());
+        for (T element : this) {
+            codec.write(element, data);
+        }
+        data.flush();
+    }
+
+    public void writeTo(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        writeTo(Channels.newOutputStream(channel), codec);
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo} and builds a perfectly balanced tree in O(n). Exactly the bytes
+     * of the list are consumed, so {@code in} should be buffered.
+     */
+    public static <T> LogList<T> readFrom(InputStream in, ElementCodec<? extends T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != FORMAT_MAGIC) {
+            throw new StreamCorruptedException("Not a LogList stream");
+        }
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException("Unsupported LogList format version " + version);
+        }
+        int count = data.readInt();
+        if (count < 0) {
+            throw new StreamCorruptedException("Negative element count " + count);
+        }
+        Iterator<T> elements = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return codec.read(data);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        LogList<T> list = new LogList<>();
+        try {
+            list.tree.addAll(0, elements, count);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return list;
+    }
+
+    /**
+     * Reads a list written by {@link #writeTo} through a buffer. Unlike {@link #readFrom(InputStream, ElementCodec)},
+     * this may consume bytes past the end of the list, so the channel position afterwards is unspecified.
+     */
+    public static <T> LogList<T> readFrom(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        return readFrom(new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_SIZE), codec);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    int height() {
+        return tree.height();
+    }
+
+    @Override
+    public void clear() {
+        tree.clear();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new LogListIterator(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " is out of bounds");
+        }
+        return new LogListIterator(index);
+    }
+
+    /**
+     * A reference to one element of a {@link LogList}. All operations walk from the element's node to the root and
+     * take O(log n); none of them searches by index. A handle becomes invalid when its element is removed or moved
+     * to another list.
+     */
+    public static final class Handle<T> {
+        private final LogList<T> list;
+        private final AVLTree<T>.Node node;
+
+        private Handle(LogList<T> list, AVLTree<T>.Node node) {
+            this.list = list;
+            this.node = node;
+        }
+
+        /**
+         * Returns the current index of the element, or -1 if it is no longer in the list.
+         */
+        public int indexOf() {
+            return list.tree.indexOf(node);
+        }
+
+        public boolean isValid() {
+            return indexOf() >= 0;
+        }
+
+        public T get() {
+            checkValid();
+            return node.getValue();
+        }
+
+        public T set(T element) {
+            Objects.requireNonNull(element);
+            checkValid();
+            T replacedElement = node.getValue();
+            node.setValue(element);
+            return replacedElement;
+        }
+
+        public T remove() {
+            checkValid();
+            list.tree.remove(node);
+            list.modCount++;
+            return node.getValue();
+        }
+
+        private void checkValid() {
+            if (indexOf() < 0) {
+                throw new IllegalStateException("Element is no longer in the list");
+            }
+        }
+    }
+
+    private int evictOverflow() {
+        int overflow = size() - capacity;
+        if (overflow <= 0) {
+            return 0;
+        }
+        int evictionCount = Math.min(Math.max(overflow, evictionBatchSize), size());
+        LogList<T> evicted = detachSubList(0, evictionCount);
+        if (evictionListener != null) {
+            evictionListener.accept(evicted);
+        }
+        return evictionCount;
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new ArrayIndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds");
+        }
+    }
+
+    /**
+     * Returns a spliterator whose splits only read the tree. Pending range updates and reversals are pushed down
+     * first, in O(n), since pushing them down during a parallel traversal could apply them twice.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        tree.pushDownAll();
+        return new LogListSpliterator(tree.getRoot(), 0, size(), tree.modificationCount);
+    }
+
+    private int sizeOfSubTree(AVLTree<T>.Node node) {
+        return (node == null) ? 0 : node.sizeOfSubTree();
+    }
+
+    private class LogListIterator implements ListIterator<T> {
+        private AVLTree<T>.Node next;
+        private AVLTree<T>.Node lastReturned;
+        private int nextIndex;
+        private int expectedModificationCount = tree.modificationCount;
+
+        LogListIterator(int index) {
+            next = (index == size()) ? null : tree.findNodeAtIndex(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.successor();
+            nextIndex++;
+            return lastReturned.getValue();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = (next == null) ? tree.findNodeAtIndex(nextIndex - 1) : next.predecessor();
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.getValue();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (lastReturned != next) {
+                nextIndex--;
+            }
+            tree.remove(nextIndex);
+            modCount++;
+            next = (nextIndex == size()) ? null : tree.findNodeAtIndex(nextIndex);
+            lastReturned = null;
+            expectedModificationCount = tree.modificationCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            Objects.requireNonNull(element);
+            lastReturned.setValue(element);
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            tree.add(nextIndex, element);
+            modCount++;
+            int evictionCount = evictOverflow();
+            nextIndex = Math.max(nextIndex + 1 - evictionCount, 0);
+            if (evictionCount > 0) {
+                next = (nextIndex == size()) ? null : tree.findNodeAtIndex(nextIndex);
+            }
+            lastReturned = null;
+            expectedModificationCount = tree.modificationCount;
+        }
+
+        private void checkForComodification() {
+            if (tree.modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class LogListSpliterator implements Spliterator<T> {
+        private AVLTree<T>.Node subTree;
+        private int fromIndex;
+        private int toIndex;
+        private AVLTree<T>.Node next;
+        private final int expectedModificationCount;
+
+        LogListSpliterator(AVLTree<T>.Node subTree, int fromIndex, int toIndex, int expectedModificationCount) {
+            this.subTree = subTree;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.expectedModificationCount = expectedModificationCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (fromIndex >= toIndex) {
+                return false;
+            }
+            AVLTree<T>.Node node = (next == null) ? findNext() : next;
+            fromIndex++;
+            next = (fromIndex < toIndex) ? node.successor() : null;
+            action.accept(node.getValue());
+            checkForComodification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (fromIndex >= toIndex) {
+                return;
+            }
+            AVLTree<T>.Node node = (next == null) ? findNext() : next;
+            while (true) {
+                action.accept(node.getValue());
+                if (++fromIndex == toIndex) {
+                    break;
+                }
+                node = node.successor();
+            }
+            next = null;
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (toIndex - fromIndex < 2) {
+                return null;
+            }
+            narrowSubTree();
+            int leftSubTreeSize = sizeOfSubTree(subTree.getLeftChild());
+            int splitIndex = (fromIndex < leftSubTreeSize) ? leftSubTreeSize : (fromIndex + toIndex) >>> 1;
+            LogListSpliterator prefix = (fromIndex < leftSubTreeSize)
+                    ? new LogListSpliterator(subTree.getLeftChild(), fromIndex, leftSubTreeSize, expectedModificationCount)
+                    : new LogListSpliterator(subTree, fromIndex, splitIndex, expectedModificationCount);
+            fromIndex = splitIndex;
+            next = null;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return toIndex - fromIndex;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+        private void narrowSubTree() {
+            while (true) {
+                int leftSubTreeSize = sizeOfSubTree(subTree.getLeftChild());
+                if (toIndex <= leftSubTreeSize) {
+                    subTree = subTree.getLeftChild();
+                } else if (fromIndex > leftSubTreeSize) {
+                    subTree = subTree.getRightChild();
+                    fromIndex -= leftSubTreeSize + 1;
+                    toIndex -= leftSubTreeSize + 1;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        private AVLTree<T>.Node findNext() {
+            AVLTree<T>.Node current = subTree;
+            int index = fromIndex;
+            while (true) {
+                int leftSubTreeSize = sizeOfSubTree(current.getLeftChild());
+                if (index == leftSubTreeSize) {
+                    return current;
+                }
+                if (index < leftSubTreeSize) {
+                    current = current.getLeftChild();
+                } else {
+                    index -= leftSubTreeSize + 1;
+                    current = current.getRightChild();
+                }
+            }
+        }
+
+        private void checkForComodification() {
+            if (tree.modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
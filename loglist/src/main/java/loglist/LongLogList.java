@@ -0,0 +1,68 @@
+package loglist;
+
+import java.util.Arrays;
+
+public class LongLogList extends IndexedAVLTree {
+    private long[] values;
+
+    public LongLogList() {
+        values = new long[capacity()];
+    }
+
+    public LongLogList(int initialCapacity) {
+        super(initialCapacity);
+        values = new long[capacity()];
+    }
+
+    public long getLong(int index) {
+        return values[findNodeAtIndex(index)];
+    }
+
+    public long set(int index, long value) {
+        int node = findNodeAtIndex(index);
+        long replacedValue = values[node];
+        values[node] = value;
+        return replacedValue;
+    }
+
+    public void add(long value) {
+        add(size(), value);
+    }
+
+    public void add(int index, long value) {
+        int node = addNode(index);
+        values[node] = value;
+    }
+
+    public long removeLong(int index) {
+        int node = findNodeAtIndex(index);
+        long removedValue = values[node];
+        removeNode(node);
+        return removedValue;
+    }
+
+    public long[] toArray() {
+        long[] array = new long[size()];
+        int node = firstNode();
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = values[node];
+            node = successor(node);
+        }
+        return array;
+    }
+
+    @Override
+    protected void growValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void copyValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
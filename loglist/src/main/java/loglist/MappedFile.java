@@ -0,0 +1,106 @@
+package loglist;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file mapped into memory in fixed-size segments, so it can grow past the 2 GB limit of a single mapping.
+ */
+class MappedFile implements Closeable {
+    private static final int SEGMENT_SHIFT = 26;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    MappedFile(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ensureCapacity(channel.size());
+    }
+
+    boolean isEmpty() throws IOException {
+        return channel.size() == 0;
+    }
+
+    void ensureCapacity(long capacity) {
+        try {
+            while ((long) segments.size() << SEGMENT_SHIFT < capacity) {
+                long position = (long) segments.size() << SEGMENT_SHIFT;
+                segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, SEGMENT_SIZE));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    int getInt(long position) {
+        return segment(position).getInt(offset(position));
+    }
+
+    void putInt(long position, int value) {
+        segment(position).putInt(offset(position), value);
+    }
+
+    long getLong(long position) {
+        return segment(position).getLong(offset(position));
+    }
+
+    void putLong(long position, long value) {
+        segment(position).putLong(offset(position), value);
+    }
+
+    void get(long position, byte[] bytes, int length) {
+        int copied = 0;
+        while (copied < length) {
+            ByteBuffer segment = segment(position + copied).duplicate();
+            int offset = offset(position + copied);
+            int chunk = Math.min(length - copied, SEGMENT_SIZE - offset);
+            segment.position(offset);
+            segment.get(bytes, copied, chunk);
+            copied += chunk;
+        }
+    }
+
+    void put(long position, byte[] bytes, int length) {
+        ensureCapacity(position + length);
+        int copied = 0;
+        while (copied < length) {
+            ByteBuffer segment = segment(position + copied).duplicate();
+            int offset = offset(position + copied);
+            int chunk = Math.min(length - copied, SEGMENT_SIZE - offset);
+            segment.position(offset);
+            segment.put(bytes, copied, chunk);
+            copied += chunk;
+        }
+    }
+
+    void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        segments.clear();
+        channel.close();
+    }
+
+    private MappedByteBuffer segment(long position) {
+        return segments.get((int) (position >>> SEGMENT_SHIFT));
+    }
+
+    private static int offset(long position) {
+        return (int) (position & SEGMENT_MASK);
+    }
+}
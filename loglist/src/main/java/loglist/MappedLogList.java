@@ -0,0 +1,262 @@
+package loglist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Objects;
+
+/**
+ * A list whose AVL nodes and elements live in memory-mapped files in {@code directory}, so it can outgrow the
+ * heap. Nodes are fixed-size records in {@code nodes}; elements are encoded with the codec and appended to
+ * {@code elements}. Space of removed and replaced elements is not reclaimed. Changes are durable only after
+ * {@link #force()} or {@link #close()}; reopening the directory restores the list.
+ */
+public class MappedLogList<T> extends AbstractList<T> implements Closeable {
+    private static final int FORMAT_MAGIC = 0x4C4F474D;
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int ROOT_OFFSET = 8;
+    private static final int FREE_NODE_OFFSET = 12;
+    private static final int USED_NODE_COUNT_OFFSET = 16;
+    private static final int ELEMENTS_END_OFFSET = 24;
+
+    private static final int NODE_SIZE = 32;
+    private static final int LEFT_CHILD = 0;
+    private static final int RIGHT_CHILD = 4;
+    private static final int PARENT = 8;
+    private static final int CHILDREN_COUNT = 12;
+    private static final int HEIGHT = 16;
+    private static final int ELEMENT_LENGTH = 20;
+    private static final int ELEMENT_POSITION = 24;
+
+    private final MappedFile nodes;
+    private final MappedFile elements;
+    private final ElementCodec<T> codec;
+    private final NodeTree tree = new NodeTree();
+    private final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream();
+    private byte[] decodeBuffer = new byte[64];
+
+    private long elementsEnd;
+
+    public MappedLogList(Path directory, ElementCodec<T> codec) throws IOException {
+        this.codec = Objects.requireNonNull(codec);
+        Files.createDirectories(directory);
+        nodes = new MappedFile(directory.resolve("nodes"));
+        try {
+            elements = new MappedFile(directory.resolve("elements"));
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(e, nodes);
+            throw e;
+        }
+        try {
+            open(directory);
+        } catch (IOException | RuntimeException e) {
+            closeAfterFailure(e, elements, nodes);
+            throw e;
+        }
+    }
+
+    private void open(Path directory) throws IOException {
+        if (nodes.isEmpty()) {
+            nodes.ensureCapacity(HEADER_SIZE);
+            writeHeader();
+        } else {
+            if (nodes.getInt(MAGIC_OFFSET) != FORMAT_MAGIC) {
+                throw new StreamCorruptedException("Not a MappedLogList directory: " + directory);
+            }
+            int version = nodes.getInt(VERSION_OFFSET);
+            if (version != FORMAT_VERSION) {
+                throw new StreamCorruptedException("Unsupported MappedLogList format version " + version);
+            }
+            tree.restore(nodes.getInt(ROOT_OFFSET), nodes.getInt(FREE_NODE_OFFSET), nodes.getInt(USED_NODE_COUNT_OFFSET));
+            elementsEnd = nodes.getLong(ELEMENTS_END_OFFSET);
+        }
+    }
+
+    private static void closeAfterFailure(Exception failure, Closeable... files) {
+        for (Closeable file : files) {
+            try {
+                file.close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return readElement(tree.findNodeAtIndex(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        int node = tree.findNodeAtIndex(index);
+        T replacedElement = readElement(node);
+        writeElement(node, element);
+        return replacedElement;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        int node = tree.addNode(index);
+        writeElement(node, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        int node = tree.findNodeAtIndex(index);
+        T removedElement = readElement(node);
+        tree.removeNode(node);
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public void clear() {
+        tree.clear();
+        elementsEnd = 0;
+        modCount++;
+    }
+
+    /**
+     * Writes all changes to the underlying files.
+     */
+    public void force() {
+        writeHeader();
+        elements.force();
+        nodes.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeHeader();
+        elements.close();
+        nodes.close();
+    }
+
+    private void writeHeader() {
+        nodes.putInt(MAGIC_OFFSET, FORMAT_MAGIC);
+        nodes.putInt(VERSION_OFFSET, FORMAT_VERSION);
+        nodes.putInt(ROOT_OFFSET, tree.root());
+        nodes.putInt(FREE_NODE_OFFSET, tree.freeNode());
+        nodes.putInt(USED_NODE_COUNT_OFFSET, tree.usedNodeCount());
+        nodes.putLong(ELEMENTS_END_OFFSET, elementsEnd);
+    }
+
+    private T readElement(int node) {
+        int length = nodes.getInt(position(node) + ELEMENT_LENGTH);
+        if (decodeBuffer.length < length) {
+            decodeBuffer = new byte[Math.max(length, decodeBuffer.length * 2)];
+        }
+        elements.get(nodes.getLong(position(node) + ELEMENT_POSITION), decodeBuffer, length);
+        try {
+            return codec.read(new DataInputStream(new ByteArrayInputStream(decodeBuffer, 0, length)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeElement(int node, T element) {
+        encodeBuffer.reset();
+        try {
+            codec.write(element, new DataOutputStream(encodeBuffer));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = encodeBuffer.toByteArray();
+        elements.put(elementsEnd, bytes, bytes.length);
+        nodes.putInt(position(node) + ELEMENT_LENGTH, bytes.length);
+        nodes.putLong(position(node) + ELEMENT_POSITION, elementsEnd);
+        elementsEnd += bytes.length;
+    }
+
+    private static long position(int node) {
+        return HEADER_SIZE + (long) node * NODE_SIZE;
+    }
+
+    /**
+     * Keeps the node fields in fixed-size records of the nodes file. A node's element is its length and position
+     * in the elements file.
+     */
+    private class NodeTree extends AbstractIndexedAVLTree {
+        @Override
+        int leftChild(int node) {
+            return nodes.getInt(position(node) + LEFT_CHILD);
+        }
+
+        @Override
+        int rightChild(int node) {
+            return nodes.getInt(position(node) + RIGHT_CHILD);
+        }
+
+        @Override
+        int parent(int node) {
+            return nodes.getInt(position(node) + PARENT);
+        }
+
+        @Override
+        int childrenCount(int node) {
+            return nodes.getInt(position(node) + CHILDREN_COUNT);
+        }
+
+        @Override
+        int height(int node) {
+            return nodes.getInt(position(node) + HEIGHT);
+        }
+
+        @Override
+        void setLeftChild(int node, int child) {
+            nodes.putInt(position(node) + LEFT_CHILD, child);
+        }
+
+        @Override
+        void setRightChild(int node, int child) {
+            nodes.putInt(position(node) + RIGHT_CHILD, child);
+        }
+
+        @Override
+        void setParent(int node, int parent) {
+            nodes.putInt(position(node) + PARENT, parent);
+        }
+
+        @Override
+        void setChildrenCount(int node, int childrenCount) {
+            nodes.putInt(position(node) + CHILDREN_COUNT, childrenCount);
+        }
+
+        @Override
+        void setHeight(int node, int height) {
+            nodes.putInt(position(node) + HEIGHT, height);
+        }
+
+        @Override
+        void ensureNodeCapacity(int nodeCount) {
+            nodes.ensureCapacity(position(nodeCount));
+        }
+
+        @Override
+        protected void copyValue(int from, int to) {
+            nodes.putInt(position(to) + ELEMENT_LENGTH, nodes.getInt(position(from) + ELEMENT_LENGTH));
+            nodes.putLong(position(to) + ELEMENT_POSITION, nodes.getLong(position(from) + ELEMENT_POSITION));
+        }
+    }
+}
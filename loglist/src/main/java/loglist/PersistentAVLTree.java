@@ -0,0 +1,217 @@
+package loglist;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public final class PersistentAVLTree<T> implements Iterable<T> {
+    private static final PersistentAVLTree<?> EMPTY = new PersistentAVLTree<>(null);
+
+    private final Node<T> root;
+
+    private PersistentAVLTree(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentAVLTree<T> empty() {
+        return (PersistentAVLTree<T>) EMPTY;
+    }
+
+    /**
+     * Returns a perfectly balanced tree of {@code values}, built in O(n).
+     */
+    public static <T> PersistentAVLTree<T> of(List<? extends T> values) {
+        return new PersistentAVLTree<>(build(values, 0, values.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> current = root;
+        while (true) {
+            int leftSubTreeSize = size(current.leftChild);
+            if (index == leftSubTreeSize) {
+                return current.value;
+            }
+            if (index < leftSubTreeSize) {
+                current = current.leftChild;
+            } else {
+                index -= leftSubTreeSize + 1;
+                current = current.rightChild;
+            }
+        }
+    }
+
+    public PersistentAVLTree<T> add(int index, T value) {
+        Objects.requireNonNull(value);
+        checkIndex(index, size() + 1);
+        return new PersistentAVLTree<>(add(root, index, value));
+    }
+
+    public PersistentAVLTree<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentAVLTree<>(remove(root, index));
+    }
+
+    public PersistentAVLTree<T> set(int index, T value) {
+        Objects.requireNonNull(value);
+        checkIndex(index, size());
+        return new PersistentAVLTree<>(set(root, index, value));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+
+            {
+                pushLeftPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftPath(node.rightChild);
+                return node.value;
+            }
+
+            private void pushLeftPath(Node<T> node) {
+                while (node != null) {
+                    path.push(node);
+                    node = node.leftChild;
+                }
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new ArrayIndexOutOfBoundsException(index + " is out of range");
+        }
+    }
+
+    private static <T> Node<T> build(List<? extends T> values, int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return null;
+        }
+        int middle = (fromIndex + toIndex - 1) >>> 1;
+        return new Node<>(Objects.requireNonNull(values.get(middle)),
+                build(values, fromIndex, middle), build(values, middle + 1, toIndex));
+    }
+
+    private static <T> Node<T> add(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null);
+        }
+        int leftSubTreeSize = size(node.leftChild);
+        if (index <= leftSubTreeSize) {
+            return balance(node.value, add(node.leftChild, index, value), node.rightChild);
+        } else {
+            return balance(node.value, node.leftChild, add(node.rightChild, index - leftSubTreeSize - 1, value));
+        }
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSubTreeSize = size(node.leftChild);
+        if (index < leftSubTreeSize) {
+            return balance(node.value, remove(node.leftChild, index), node.rightChild);
+        } else if (index > leftSubTreeSize) {
+            return balance(node.value, node.leftChild, remove(node.rightChild, index - leftSubTreeSize - 1));
+        } else if (node.leftChild == null) {
+            return node.rightChild;
+        } else if (node.rightChild == null) {
+            return node.leftChild;
+        } else {
+            return balance(smallestValue(node.rightChild), node.leftChild, removeSmallest(node.rightChild));
+        }
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSubTreeSize = size(node.leftChild);
+        if (index < leftSubTreeSize) {
+            return new Node<>(node.value, set(node.leftChild, index, value), node.rightChild);
+        } else if (index > leftSubTreeSize) {
+            return new Node<>(node.value, node.leftChild, set(node.rightChild, index - leftSubTreeSize - 1, value));
+        } else {
+            return new Node<>(value, node.leftChild, node.rightChild);
+        }
+    }
+
+    private static <T> T smallestValue(Node<T> node) {
+        while (node.leftChild != null) {
+            node = node.leftChild;
+        }
+        return node.value;
+    }
+
+    private static <T> Node<T> removeSmallest(Node<T> node) {
+        if (node.leftChild == null) {
+            return node.rightChild;
+        }
+        return balance(node.value, removeSmallest(node.leftChild), node.rightChild);
+    }
+
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int balanceFactor = height(left) - height(right);
+        if (balanceFactor == 2) {
+            if (height(left.leftChild) < height(left.rightChild)) {
+                left = leftRotate(left.value, left.leftChild, left.rightChild);
+            }
+            return rightRotate(value, left, right);
+        } else if (balanceFactor == -2) {
+            if (height(right.rightChild) < height(right.leftChild)) {
+                right = rightRotate(right.value, right.leftChild, right.rightChild);
+            }
+            return leftRotate(value, left, right);
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static <T> Node<T> leftRotate(T value, Node<T> left, Node<T> right) {
+        return new Node<>(right.value, new Node<>(value, left, right.leftChild), right.rightChild);
+    }
+
+    private static <T> Node<T> rightRotate(T value, Node<T> left, Node<T> right) {
+        return new Node<>(left.value, left.leftChild, new Node<>(value, left.rightChild, right));
+    }
+
+    private static int height(Node<?> node) {
+        return (node == null) ? -1 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return (node == null) ? 0 : 1 + node.childrenCount;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> leftChild;
+        private final Node<T> rightChild;
+
+        private final int height;
+        private final int childrenCount;
+
+        Node(T value, Node<T> leftChild, Node<T> rightChild) {
+            this.value = value;
+            this.leftChild = leftChild;
+            this.rightChild = rightChild;
+            this.height = Math.max(height(leftChild), height(rightChild)) + 1;
+            this.childrenCount = size(leftChild) + size(rightChild);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package loglist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+public class PersistentLogList<T> extends AbstractList<T> {
+    private volatile PersistentAVLTree<T> tree;
+
+    public PersistentLogList() {
+        this(PersistentAVLTree.empty());
+    }
+
+    public PersistentLogList(Collection<? extends T> collection) {
+        this();
+        addAll(collection);
+    }
+
+    private PersistentLogList(PersistentAVLTree<T> tree) {
+        this.tree = tree;
+    }
+
+    public PersistentLogList<T> snapshot() {
+        return new PersistentLogList<>(tree);
+    }
+
+    @Override
+    public T get(int index) {
+        return tree.get(index);
+    }
+
+    @Override
+    public synchronized T set(int index, T element) {
+        PersistentAVLTree<T> current = tree;
+        T replacedElement = current.get(index);
+        tree = current.set(index, element);
+        return replacedElement;
+    }
+
+    @Override
+    public synchronized void add(int index, T element) {
+        tree = tree.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public synchronized T remove(int index) {
+        PersistentAVLTree<T> current = tree;
+        T removedElement = current.get(index);
+        tree = current.remove(index);
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public synchronized boolean remove(Object element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        tree = tree.remove(index);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Keeps the elements that do not match {@code filter} in a new tree, which is published only if something was
+     * removed. Iterators and snapshots keep seeing the old tree.
+     */
+    @Override
+    public synchronized boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+        PersistentAVLTree<T> current = tree;
+        List<T> keptElements = new ArrayList<>(current.size());
+        for (T element : current) {
+            if (!filter.test(element)) {
+                keptElements.add(element);
+            }
+        }
+        if (keptElements.size() == current.size()) {
+            return false;
+        }
+        tree = PersistentAVLTree.of(keptElements);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    public synchronized void clear() {
+        tree = PersistentAVLTree.empty();
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return tree.iterator();
+    }
+}
@@ -0,0 +1,149 @@
+package loglist;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public class PooledLogList<T> extends AbstractList<T> {
+    private final ValueTree<T> tree;
+
+    public PooledLogList() {
+        tree = new ValueTree<>(16);
+    }
+
+    public PooledLogList(int initialCapacity) {
+        tree = new ValueTree<>(initialCapacity);
+    }
+
+    public PooledLogList(Collection<? extends T> collection) {
+        this(collection.size());
+        addAll(collection);
+    }
+
+    @Override
+    public T get(int index) {
+        return tree.getValue(tree.findNodeAtIndex(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        Objects.requireNonNull(element);
+        int node = tree.findNodeAtIndex(index);
+        T replacedElement = tree.getValue(node);
+        tree.setValue(node, element);
+        return replacedElement;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        Objects.requireNonNull(element);
+        int node = tree.addNode(index);
+        tree.setValue(node, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        int node = tree.findNodeAtIndex(index);
+        T removedElement = tree.getValue(node);
+        tree.removeNode(node);
+        modCount++;
+        return removedElement;
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public void clear() {
+        tree.clear();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = tree.firstNode();
+            private int nextIndex;
+            private boolean canRemove;
+            private int expectedModificationCount = tree.modificationCount;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size();
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T value = tree.getValue(next);
+                next = tree.successor(next);
+                nextIndex++;
+                canRemove = true;
+                return value;
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+                checkForComodification();
+                nextIndex--;
+                tree.removeNode(tree.findNodeAtIndex(nextIndex));
+                modCount++;
+                next = (nextIndex == size()) ? IndexedAVLTree.NIL : tree.findNodeAtIndex(nextIndex);
+                canRemove = false;
+                expectedModificationCount = tree.modificationCount;
+            }
+
+            private void checkForComodification() {
+                if (tree.modificationCount != expectedModificationCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    private static class ValueTree<T> extends IndexedAVLTree {
+        private Object[] values;
+
+        ValueTree(int initialCapacity) {
+            super(initialCapacity);
+            values = new Object[capacity()];
+        }
+
+        @SuppressWarnings("unchecked")
+        T getValue(int node) {
+            return (T) values[node];
+        }
+
+        void setValue(int node, T value) {
+            values[node] = value;
+        }
+
+        @Override
+        protected void growValues(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        protected void copyValue(int from, int to) {
+            values[to] = values[from];
+        }
+
+        @Override
+        protected void clearValue(int node) {
+            values[node] = null;
+        }
+    }
+}
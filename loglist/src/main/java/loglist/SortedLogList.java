@@ -0,0 +1,128 @@
+package loglist;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A sorted multiset with O(log n) order statistics. Elements are compared only with the comparator, as in
+ * {@link java.util.TreeSet}; equal elements are kept in insertion order.
+ */
+public class SortedLogList<T> extends AbstractCollection<T> {
+    private final AVLTree<T> tree;
+
+    public SortedLogList(Comparator<? super T> comparator) {
+        this.tree = new AVLTree<>(Objects.requireNonNull(comparator));
+    }
+
+    public SortedLogList(Comparator<? super T> comparator, Collection<? extends T> collection) {
+        this(comparator);
+        addAll(collection);
+    }
+
+    @Override
+    public boolean add(T element) {
+        tree.add(element);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean remove(Object element) {
+        T value = (T) Objects.requireNonNull(element);
+        if (!tree.contains(value)) {
+            return false;
+        }
+        tree.remove(tree.lowerBound(value));
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean contains(Object element) {
+        return tree.contains((T) Objects.requireNonNull(element));
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public void clear() {
+        tree.clear();
+    }
+
+    public int rank(T element) {
+        return tree.rank(element);
+    }
+
+    public int lowerBound(T element) {
+        return tree.lowerBound(element);
+    }
+
+    public int upperBound(T element) {
+        return tree.upperBound(element);
+    }
+
+    public int countInRange(T from, T to) {
+        return tree.countInRange(from, to);
+    }
+
+    public T select(int rank) {
+        return tree.select(rank);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SortedLogListIterator();
+    }
+
+    private class SortedLogListIterator implements Iterator<T> {
+        private AVLTree<T>.Node next = (size() == 0) ? null : tree.findNodeAtIndex(0);
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedModificationCount = tree.modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next.getValue();
+            next = next.successor();
+            nextIndex++;
+            canRemove = true;
+            return value;
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            nextIndex--;
+            tree.remove(nextIndex);
+            next = (nextIndex == size()) ? null : tree.findNodeAtIndex(nextIndex);
+            canRemove = false;
+            expectedModificationCount = tree.modificationCount;
+        }
+
+        private void checkForComodification() {
+            if (tree.modificationCount != expectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package loglist;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of {@link AVLTree}, enabled with {@code -Dloglist.metrics=true}. When it is disabled
+ * {@link #ENABLED} folds to a constant and the recording calls are compiled away. Operations slower than the
+ * JFR threshold (1 ms by default) are also emitted as {@code loglist.TreeOperation} events.
+ */
+public final class TreeMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("loglist.metrics");
+    private static final int HISTOGRAM_SIZE = 64;
+
+    private static final LongAdder leftRotations = new LongAdder();
+    private static final LongAdder rightRotations = new LongAdder();
+    private static final LongAdder recomputedNodes = new LongAdder();
+    private static final AtomicLongArray balancePathLengths = new AtomicLongArray(HISTOGRAM_SIZE);
+    private static final AtomicLongArray descentDepths = new AtomicLongArray(HISTOGRAM_SIZE);
+
+    private TreeMetrics() {
+    }
+
+    public static long leftRotations() {
+        return leftRotations.sum();
+    }
+
+    public static long rightRotations() {
+        return rightRotations.sum();
+    }
+
+    /**
+     * Returns the number of nodes recomputed on the way to the root, by rebalancing and by value updates.
+     */
+    public static long recomputedNodes() {
+        return recomputedNodes.sum();
+    }
+
+    /**
+     * Returns how many rebalancing passes visited each number of ancestors; the last bucket collects the rest.
+     */
+    public static long[] balancePathLengthHistogram() {
+        return toArray(balancePathLengths);
+    }
+
+    /**
+     * Returns how many index lookups descended each number of levels; the last bucket collects the rest.
+     */
+    public static long[] descentDepthHistogram() {
+        return toArray(descentDepths);
+    }
+
+    public static void reset() {
+        leftRotations.reset();
+        rightRotations.reset();
+        recomputedNodes.reset();
+        for (int i = 0; i < HISTOGRAM_SIZE; ++i) {
+            balancePathLengths.set(i, 0);
+            descentDepths.set(i, 0);
+        }
+    }
+
+    static void recordLeftRotation() {
+        leftRotations.increment();
+    }
+
+    static void recordRightRotation() {
+        rightRotations.increment();
+    }
+
+    static void recordRecompute(int nodeCount) {
+        recomputedNodes.add(nodeCount);
+    }
+
+    static void recordBalancePath(int length) {
+        recomputedNodes.add(length);
+        balancePathLengths.incrementAndGet(Math.min(length, HISTOGRAM_SIZE - 1));
+    }
+
+    static void recordDescent(int depth) {
+        descentDepths.incrementAndGet(Math.min(depth, HISTOGRAM_SIZE - 1));
+    }
+
+    static TreeOperationEvent beginOperation(String operation, int index) {
+        TreeOperationEvent event = new TreeOperationEvent();
+        event.operation = operation;
+        event.index = index;
+        event.begin();
+        return event;
+    }
+
+    static void endOperation(TreeOperationEvent event, int size) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    private static long[] toArray(AtomicLongArray histogram) {
+        long[] array = new long[histogram.length()];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = histogram.get(i);
+        }
+        return array;
+    }
+}
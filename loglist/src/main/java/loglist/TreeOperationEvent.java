@@ -0,0 +1,22 @@
+package loglist;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+@Name("loglist.TreeOperation")
+@Label("LogList Tree Operation")
+@Category("LogList")
+@Threshold("1 ms")
+class TreeOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Index")
+    int index;
+
+    @Label("Size")
+    int size;
+}
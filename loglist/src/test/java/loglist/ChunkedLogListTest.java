@@ -0,0 +1,49 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class ChunkedLogListTest {
+
+    @Test
+    void behavesLikeList() {
+        ChunkedLogList<Integer> actual = new ChunkedLogList<>();
+        Random random = new Random(42);
+        List<Integer> expected = ListDifferential.run(actual, random, 50_000, i -> i);
+        while (!expected.isEmpty()) {
+            int index = random.nextInt(expected.size());
+            Assertions.assertEquals(expected.remove(index), actual.remove(index));
+        }
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void removeThroughIterator() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+        }
+        ChunkedLogList<Integer> actual = new ChunkedLogList<>(expected);
+        for (Iterator<Integer> iterator = actual.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(value -> value % 3 != 0);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void subListIsFailFast() {
+        ChunkedLogList<Integer> list = new ChunkedLogList<>(List.of(1, 2, 3, 4));
+        List<Integer> subList = list.subList(1, 3);
+        list.add(0, 0);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+    }
+}
@@ -0,0 +1,124 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class ConcurrentLogListTest {
+
+    private int threadCount = 4;
+
+    @Test
+    void concurrentWritersAndReaders() throws InterruptedException, ExecutionException {
+        ConcurrentLogList<Integer> list = new ConcurrentLogList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threadCount; ++t) {
+                workers.add(executor.submit(() -> {
+                    Random random = new Random();
+                    for (int i = 0; i < 10_000; ++i) {
+                        list.add(random.nextInt(list.size() + 1), i);
+                        int size = list.size();
+                        Assertions.assertNotNull(list.get(random.nextInt(size)));
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(threadCount * 10_000, list.size());
+        Assertions.assertEquals(threadCount * 10_000, new ArrayList<>(list).size());
+    }
+
+    @Test
+    void concurrentReadersSeeCorrectElements() throws InterruptedException, ExecutionException {
+        int size = 10_000;
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < size; ++i) {
+            elements.add(i);
+        }
+        ConcurrentLogList<Integer> list = new ConcurrentLogList<>(elements);
+        ExecutorService executor = Executors.newFixedThreadPool(2 * threadCount + 1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            workers.add(executor.submit(() -> {
+                Random random = new Random(1);
+                for (int i = 0; i < 2_000; ++i) {
+                    int index = random.nextInt(size);
+                    list.set(index, index);
+                    list.removeIf(value -> value < 0);
+                }
+            }));
+            for (int t = 0; t < 2 * threadCount; ++t) {
+                int seed = t;
+                workers.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 100_000; ++i) {
+                        int index = (i % 2 == 0) ? random.nextInt(size) : (i / 2 + seed) % size;
+                        Assertions.assertEquals(index, list.get(index));
+                    }
+                    Assertions.assertEquals(elements, new ArrayList<>(list));
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(elements, list);
+    }
+
+    @Test
+    void behavesLikeList() {
+        List<String> expected = new ArrayList<>(List.of("Hello", "World", "42"));
+        ConcurrentLogList<String> actual = new ConcurrentLogList<>(expected);
+        expected.add(1, "a");
+        actual.add(1, "a");
+        Assertions.assertEquals(expected.set(2, "b"), actual.set(2, "b"));
+        Assertions.assertEquals(expected.remove(0), actual.remove(0));
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> actual.get(3));
+    }
+
+    @Test
+    void removeByValue() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i % 10);
+        }
+        ConcurrentLogList<Integer> actual = new ConcurrentLogList<>(expected);
+        Assertions.assertEquals(expected.remove((Integer) 3), actual.remove((Integer) 3));
+        Assertions.assertFalse(actual.remove((Integer) 42));
+        Assertions.assertEquals(expected.removeIf(value -> value % 4 == 0), actual.removeIf(value -> value % 4 == 0));
+        Assertions.assertFalse(actual.removeIf(value -> value > 10));
+        Assertions.assertEquals(expected.removeAll(List.of(1, 5)), actual.removeAll(List.of(1, 5)));
+        Assertions.assertEquals(expected.retainAll(List.of(2, 3, 6)), actual.retainAll(List.of(2, 3, 6)));
+        Assertions.assertEquals(expected, actual);
+        actual.retainAll(List.of());
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void subListIsFailFast() {
+        ConcurrentLogList<Integer> list = new ConcurrentLogList<>(List.of(1, 2, 3, 4));
+        List<Integer> subList = list.subList(1, 3);
+        list.add(0, 0);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        List<Integer> removedSubList = list.subList(0, 2);
+        list.removeIf(value -> value == 4);
+        Assertions.assertThrows(ConcurrentModificationException.class, removedSubList::size);
+    }
+}
@@ -0,0 +1,46 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Assertions;
+
+
+/**
+ * Runs random index-based removes, sets and adds against a list and an {@link ArrayList}, asserting that both
+ * return the same results.
+ */
+final class ListDifferential {
+
+    private ListDifferential() {
+    }
+
+    /**
+     * @return the {@link ArrayList} holding the expected contents, which are already asserted to equal
+     *         {@code actual}
+     */
+    static <T> List<T> run(List<T> actual, Random random, int operations, IntFunction<T> value) {
+        List<T> expected = new ArrayList<>();
+        for (int i = 0; i < operations; ++i) {
+            int operation = random.nextInt(4);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.set(index, value.apply(i)), actual.set(index, value.apply(i)));
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, value.apply(i));
+                actual.add(index, value.apply(i));
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+        return expected;
+    }
+
+    static <T> List<T> run(List<T> actual, int operations, IntFunction<T> value) {
+        return run(actual, new Random(42), operations, value);
+    }
+}
@@ -0,0 +1,822 @@
+package loglist;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class LogListTest {
+
+    @Test
+    void add() {
+        List<String> expected = new ArrayList<>();
+        LogList<String> actual = new LogList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(String.valueOf(i));
+            actual.add(String.valueOf(i));
+        }
+        Assertions.assertEquals(actual.toString(), expected.toString());
+    }
+
+    @Test
+    void addAtIndex() {
+        List<Character> expected = new ArrayList<>();
+        LogList<Character> actual = new LogList<>();
+        for (char i = 'a'; i <= 'z'; ++i) {
+            expected.add(i);
+            actual.add(i);
+        }
+        expected.add(2, '0');
+        actual.add(2, '0');
+        Assertions.assertEquals(actual.toString(), expected.toString());
+    }
+
+    @Test
+    void addToIndexOutOfBounds() {
+        LogList<String> list = new LogList<>();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.add(42, "Hello"));
+    }
+
+    @Test
+    void removeAtIndex() {
+        LogList<String> list = new LogList<>();
+        list.add("Hello");
+        list.add("World");
+        list.add("42");
+        list.remove(1);
+        Assertions.assertEquals(list.get(0), "Hello");
+        Assertions.assertEquals(list.get(1), "42");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+    }
+
+    @Test
+    void setAtIndex() {
+        LogList<Double> list = new LogList<>();
+        for (double i = 0; i < 1; i += 0.01) {
+            list.add(i);
+        }
+        list.set(10, 100.0);
+        double EPS = 0.001;
+        for (int i = 0; i < 100; ++i) {
+            double value = i * 0.01;
+            if (i != 10) {
+                Assertions.assertEquals(value, list.get(i), EPS);
+            } else {
+                Assertions.assertEquals(100.0, list.get(i), EPS);
+            }
+        }
+    }
+
+    @Test
+    void setReturnsReplacedElement() {
+        LogList<String> list = new LogList<>();
+        for (int i = 0; i < 10; ++i) {
+            list.add(String.valueOf(i));
+        }
+        Assertions.assertEquals("3", list.set(3, "Hello"));
+        Assertions.assertEquals("Hello", list.get(3));
+    }
+
+    @Test
+    void addAtRandomIndexes() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; ++i) {
+            int index = random.nextInt(expected.size() + 1);
+            expected.add(index, i);
+            actual.add(index, i);
+        }
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void iterate() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+            actual.add(i);
+        }
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer value : actual) {
+            iterated.add(value);
+        }
+        Assertions.assertEquals(expected, iterated);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void modifyThroughListIterator() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+            actual.add(i);
+        }
+        for (List<Integer> list : List.of(expected, actual)) {
+            ListIterator<Integer> iterator = list.listIterator();
+            while (iterator.hasNext()) {
+                int value = iterator.next();
+                if (value % 3 == 0) {
+                    iterator.remove();
+                } else if (value % 3 == 1) {
+                    iterator.set(-value);
+                } else {
+                    iterator.add(value * 10);
+                }
+            }
+            while (iterator.hasPrevious()) {
+                if (iterator.previous() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        LogList<String> list = new LogList<>();
+        list.add("Hello");
+        list.add("World");
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.add("42");
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void subListIsFailFast() {
+        LogList<Integer> list = new LogList<>(List.of(1, 2, 3, 4));
+        List<Integer> subList = list.subList(1, 3);
+        subList.set(0, 5);
+        subList.remove(1);
+        Assertions.assertEquals(List.of(1, 5, 4), list);
+        list.add(0, 0);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        List<Integer> dequeSubList = list.subList(0, 2);
+        list.pollLast();
+        Assertions.assertThrows(ConcurrentModificationException.class, dequeSubList::size);
+    }
+
+    @Test
+    void constructFromCollection() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+        }
+        LogList<Integer> actual = new LogList<>(expected);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(9, actual.height());
+        actual.add(500, -1);
+        expected.add(500, -1);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void addAllBuildsBalancedTree() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < (1 << 16) - 1; ++i) {
+            elements.add(i);
+        }
+        LogList<Integer> list = new LogList<>();
+        list.addAll(elements);
+        Assertions.assertEquals(elements, list);
+        Assertions.assertEquals(15, list.height());
+    }
+
+    @Test
+    void addAllAtIndex() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100; ++i) {
+            List<Integer> chunk = new ArrayList<>();
+            for (int j = random.nextInt(50); j > 0; --j) {
+                chunk.add(random.nextInt());
+            }
+            int index = random.nextInt(expected.size() + 1);
+            expected.addAll(index, chunk);
+            actual.addAll(index, chunk);
+        }
+        Assertions.assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    void removeRange() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+        }
+        LogList<Integer> actual = new LogList<>(expected);
+        actual.removeRange(100, 900);
+        expected.subList(100, 900).clear();
+        Assertions.assertEquals(expected, actual);
+        actual.subList(10, 20).clear();
+        expected.subList(10, 20).clear();
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void detachSubListAndSplice() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+        }
+        LogList<Integer> actual = new LogList<>(expected);
+        LogList<Integer> detached = actual.detachSubList(200, 700);
+        Assertions.assertEquals(expected.subList(200, 700), detached);
+        Assertions.assertEquals(500, actual.size());
+
+        actual.splice(200, detached);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(detached.isEmpty());
+    }
+
+    @Test
+    void aggregateRange() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> sums = new LogList<>(Integer::sum);
+        LogList<Integer> maximums = new LogList<>(Math::max);
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; ++i) {
+            int index = random.nextInt(expected.size() + 1);
+            int value = random.nextInt(1000);
+            expected.add(index, value);
+            sums.add(index, value);
+            maximums.add(index, value);
+        }
+        sums.set(500, 100_000);
+        maximums.set(500, 100_000);
+        expected.set(500, 100_000);
+        for (int i = 0; i < 100; ++i) {
+            int from = random.nextInt(expected.size());
+            int to = from + 1 + random.nextInt(expected.size() - from);
+            List<Integer> range = expected.subList(from, to);
+            Assertions.assertEquals(range.stream().mapToInt(Integer::intValue).sum(), sums.aggregate(from, to));
+            Assertions.assertEquals(Collections.max(range), maximums.aggregate(from, to));
+        }
+        Assertions.assertThrows(IllegalStateException.class, () -> new LogList<>(expected).aggregate(0, 1));
+    }
+
+    @Test
+    void updateAndReverseRange() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            expected.add(i);
+        }
+        LogList<Integer> actual = new LogList<>(Math::max);
+        actual.addAll(expected);
+
+        actual.updateRange(100, 600, value -> value + 1000);
+        actual.reverse(300, 900);
+        actual.updateRange(0, 400, value -> value + 1);
+        for (int i = 100; i < 600; ++i) {
+            expected.set(i, expected.get(i) + 1000);
+        }
+        Collections.reverse(expected.subList(300, 900));
+        for (int i = 0; i < 400; ++i) {
+            expected.set(i, expected.get(i) + 1);
+        }
+
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(Collections.max(expected.subList(0, 350)), actual.aggregate(0, 350));
+        actual.add(350, -1);
+        expected.add(350, -1);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void manyPendingRangeUpdates() {
+        LogList<Integer> list = new LogList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        for (int i = 0; i < 20_000; ++i) {
+            list.updateRange(0, list.size(), value -> value + 1);
+        }
+        Assertions.assertEquals(20_500, list.get(500));
+        Assertions.assertEquals(20_999, list.get(999));
+    }
+
+    @Test
+    void aggregatesFollowRangeUpdatesAndReverse() {
+        LogList<Integer> sums = new LogList<>(Integer::sum);
+        for (int i = 0; i < 8; ++i) {
+            sums.add(1);
+        }
+        sums.updateRange(0, 8, value -> value + 10);
+        Assertions.assertEquals(88, sums.aggregate(0, 8));
+        sums.updateRange(2, 5, value -> value * 2);
+        Assertions.assertEquals(121, sums.aggregate(0, 8));
+
+        LogList<String> strings = new LogList<>(String::concat);
+        strings.addAll(List.of("a", "b", "c", "d", "e"));
+        strings.reverse(0, 4);
+        Assertions.assertEquals("dcbae", strings.aggregate(0, 5));
+        Assertions.assertEquals("cb", strings.aggregate(1, 3));
+        strings.reverse(1, 5);
+        Assertions.assertEquals(List.of("d", "e", "a", "b", "c"), strings);
+        Assertions.assertEquals("deabc", strings.aggregate(0, 5));
+    }
+
+    @Test
+    void parallelStream() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100_000; ++i) {
+            expected.add(i);
+        }
+        LogList<Integer> actual = new LogList<>(expected);
+        actual.reverse(0, 50_000);
+        Collections.reverse(expected.subList(0, 50_000));
+        Assertions.assertEquals(expected, actual.parallelStream().collect(Collectors.toList()));
+        Assertions.assertEquals(
+                expected.stream().mapToLong(Integer::longValue).sum(),
+                actual.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void parallelStreamOverPendingUpdates() throws InterruptedException, ExecutionException {
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            for (int round = 0; round < 20; ++round) {
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < 4000; ++i) {
+                    expected.add(i);
+                }
+                LogList<Integer> actual = new LogList<>(expected);
+                actual.updateRange(0, 4000, value -> value + 1);
+                actual.reverse(1000, 3000);
+                actual.updateRange(500, 2500, value -> value * 2);
+                expected.replaceAll(value -> value + 1);
+                Collections.reverse(expected.subList(1000, 3000));
+                expected.subList(500, 2500).replaceAll(value -> value * 2);
+
+                long expectedSum = expected.stream().mapToLong(Integer::longValue).sum();
+                Assertions.assertEquals(expectedSum,
+                        (long) pool.submit(() -> actual.parallelStream().mapToLong(Integer::longValue).sum()).get());
+                Assertions.assertEquals(expected,
+                        pool.submit(() -> actual.parallelStream().collect(Collectors.toList())).get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void spliteratorSplitsIntoDisjointSizedParts() {
+        LogList<Integer> list = new LogList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        Spliterator<Integer> suffix = list.spliterator();
+        Assertions.assertTrue(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Integer> prefix = suffix.trySplit();
+        Assertions.assertEquals(1000, prefix.estimateSize() + suffix.estimateSize());
+        Assertions.assertTrue(prefix.estimateSize() > 250 && suffix.estimateSize() > 250);
+
+        List<Integer> elements = new ArrayList<>();
+        prefix.forEachRemaining(elements::add);
+        while (suffix.tryAdvance(elements::add)) {
+        }
+        Assertions.assertEquals(list, elements);
+    }
+
+    @Test
+    void nearbyAccessAfterModifications() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>();
+        Random random = new Random(7);
+        int position = 0;
+        for (int i = 0; i < 20_000; ++i) {
+            position = Math.max(0, Math.min(expected.size(), position + random.nextInt(9) - 4));
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(position, i);
+                actual.add(position, i);
+            } else if (operation == 1 && position < expected.size()) {
+                Assertions.assertEquals(expected.remove(position), actual.remove(position));
+            } else {
+                int index = Math.min(position, expected.size() - 1);
+                Assertions.assertEquals(expected.get(index), actual.get(index));
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void writeAndReadBack() throws IOException {
+        LogList<String> list = new LogList<>();
+        for (int i = 0; i < 10_000; ++i) {
+            list.add("element " + i);
+        }
+        list.reverse(100, 5_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(bytes, ElementCodec.STRING);
+        bytes.write(42);
+
+        InputStream in = new ByteArrayInputStream(bytes.toByteArray());
+        LogList<String> copy = LogList.readFrom(in, ElementCodec.STRING);
+        Assertions.assertEquals(list, copy);
+        Assertions.assertEquals(42, in.read());
+    }
+
+    @Test
+    void writeAndReadBackThroughChannel() throws IOException {
+        LogList<Integer> list = new LogList<>();
+        for (int i = 0; i < 100_000; ++i) {
+            list.add(i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(bytes), ElementCodec.INTEGER);
+        LogList<Integer> copy = LogList.readFrom(
+                Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), ElementCodec.INTEGER);
+        Assertions.assertEquals(list, copy);
+    }
+
+    @Test
+    void readRejectsForeignData() {
+        InputStream in = new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 1, 0, 0, 0, 0});
+        Assertions.assertThrows(IOException.class, () -> LogList.readFrom(in, ElementCodec.INTEGER));
+    }
+
+    @Test
+    void readTruncatedData() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new LogList<>(List.of(1, 2, 3)).writeTo(bytes, ElementCodec.INTEGER);
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 2);
+        Assertions.assertThrows(EOFException.class,
+                () -> LogList.readFrom(new ByteArrayInputStream(truncated), ElementCodec.INTEGER));
+    }
+
+    @Test
+    void applyBatch() {
+        Random random = new Random(3);
+        for (int editCount : new int[]{1, 10, 100, 5_000}) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 1000; ++i) {
+                expected.add(i);
+            }
+            LogList<Integer> actual = new LogList<>(expected);
+
+            List<ListEdit<Integer>> edits = new ArrayList<>();
+            Set<Integer> editedIndexes = new HashSet<>();
+            for (int i = 0; i < editCount; ++i) {
+                int index = random.nextInt(expected.size() + 1);
+                int kind = random.nextInt(3);
+                if (kind == 0 || index == expected.size() || !editedIndexes.add(index)) {
+                    edits.add(ListEdit.insert(index, -i));
+                } else if (kind == 1) {
+                    edits.add(ListEdit.set(index, -i));
+                } else {
+                    edits.add(ListEdit.remove(index));
+                }
+            }
+            for (int index = expected.size(); index >= 0; --index) {
+                for (ListEdit<Integer> edit : edits) {
+                    if (edit.index == index && edit.kind != ListEdit.Kind.INSERT) {
+                        if (edit.kind == ListEdit.Kind.SET) {
+                            expected.set(index, edit.value);
+                        } else {
+                            expected.remove(index);
+                        }
+                    }
+                }
+                int insertIndex = index;
+                for (ListEdit<Integer> edit : edits) {
+                    if (edit.index == index && edit.kind == ListEdit.Kind.INSERT) {
+                        expected.add(insertIndex++, edit.value);
+                    }
+                }
+            }
+
+            actual.applyBatch(edits);
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void mergedBatchKeepsAggregatesAndWeights() {
+        LogList<Integer> sums = new LogList<>(Integer::sum);
+        LogList<Integer> weighted = new LogList<>(Integer::longValue);
+        List<ListEdit<Integer>> edits = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            sums.add(i);
+            weighted.add(i);
+            edits.add(ListEdit.set(i, 2 * i));
+        }
+        sums.applyBatch(edits);
+        weighted.applyBatch(edits);
+        Assertions.assertEquals(9900, sums.aggregate(0, 100));
+        Assertions.assertEquals(9900, weighted.totalWeight());
+        Assertions.assertEquals(90, weighted.weightBefore(10));
+    }
+
+    @Test
+    void applyBatchRejectsConflictingEdits() {
+        LogList<Integer> list = new LogList<>(List.of(1, 2, 3));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> list.applyBatch(List.of(ListEdit.set(1, 5), ListEdit.remove(1))));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> list.applyBatch(List.of(ListEdit.remove(3))));
+        Assertions.assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    void weightBalancedTree() {
+        List<Integer> expected = new ArrayList<>();
+        LogList<Integer> actual = new LogList<>(BalancingStrategy.WEIGHT_BALANCED);
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; ++i) {
+            int operation = random.nextInt(5);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int fromIndex = random.nextInt(expected.size());
+                int toIndex = fromIndex + random.nextInt(expected.size() - fromIndex + 1);
+                Collections.reverse(expected.subList(fromIndex, toIndex));
+                actual.reverse(fromIndex, toIndex);
+            } else {
+                int index = (operation == 2) ? 0 : random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual.add(index, i);
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+
+        LogList<Integer> detached = actual.detachSubList(100, 5_000);
+        actual.splice(actual.size(), detached);
+        List<Integer> moved = new ArrayList<>(expected.subList(100, 5_000));
+        expected.subList(100, 5_000).clear();
+        expected.addAll(moved);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void handlesFollowTheirElements() {
+        LogList<String> list = new LogList<>();
+        List<LogList.Handle<String>> handles = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            handles.add(list.addHandle(0, "element " + i));
+        }
+        list.reverse(10, 60);
+        list.remove(50);
+        list.add(30, "inserted");
+        for (LogList.Handle<String> handle : handles) {
+            int index = handle.indexOf();
+            if (index >= 0) {
+                Assertions.assertEquals(list.get(index), handle.get());
+            }
+        }
+        Assertions.assertEquals(99, handles.stream().filter(LogList.Handle::isValid).count());
+
+        LogList.Handle<String> handle = handles.get(42);
+        Assertions.assertEquals("element 42", handle.set("replaced"));
+        Assertions.assertEquals("replaced", list.get(handle.indexOf()));
+        Assertions.assertEquals("replaced", handle.remove());
+        Assertions.assertEquals(-1, handle.indexOf());
+        Assertions.assertFalse(list.contains("replaced"));
+        Assertions.assertThrows(IllegalStateException.class, handle::get);
+    }
+
+    @Test
+    void handleSurvivesRemovalOfNeighbours() {
+        LogList<Integer> list = new LogList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        LogList.Handle<Integer> handle = list.handleAt(500);
+        for (int i = 0; i < 400; ++i) {
+            list.remove(handle.indexOf() - 1);
+            list.remove(handle.indexOf() + 1);
+        }
+        Assertions.assertEquals(500, handle.get());
+        Assertions.assertEquals(100, handle.indexOf());
+    }
+
+    @Test
+    void dequeOperations() {
+        Deque<Integer> expected = new ArrayDeque<>();
+        LogList<Integer> actual = new LogList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; ++i) {
+            switch (random.nextInt(6)) {
+                case 0:
+                    expected.addFirst(i);
+                    actual.addFirst(i);
+                    break;
+                case 1:
+                    expected.addLast(i);
+                    actual.addLast(i);
+                    break;
+                case 2:
+                    Assertions.assertEquals(expected.pollFirst(), actual.pollFirst());
+                    break;
+                case 3:
+                    Assertions.assertEquals(expected.pollLast(), actual.pollLast());
+                    break;
+                case 4:
+                    if (!expected.isEmpty()) {
+                        actual.reverse(0, actual.size());
+                        List<Integer> reversed = new ArrayList<>(expected);
+                        Collections.reverse(reversed);
+                        expected = new ArrayDeque<>(reversed);
+                    }
+                    break;
+                default:
+                    Assertions.assertEquals(expected.peekFirst(), actual.peekFirst());
+                    Assertions.assertEquals(expected.peekLast(), actual.peekLast());
+            }
+        }
+        Assertions.assertEquals(new ArrayList<>(expected), actual);
+
+        List<Integer> descending = new ArrayList<>();
+        actual.descendingIterator().forEachRemaining(descending::add);
+        List<Integer> expectedDescending = new ArrayList<>();
+        expected.descendingIterator().forEachRemaining(expectedDescending::add);
+        Assertions.assertEquals(expectedDescending, descending);
+    }
+
+    @Test
+    void emptyDeque() {
+        LogList<Integer> list = new LogList<>();
+        Assertions.assertNull(list.pollFirst());
+        Assertions.assertNull(list.peekLast());
+        Assertions.assertThrows(NoSuchElementException.class, list::removeLast);
+        Assertions.assertThrows(NoSuchElementException.class, list::element);
+        list.push(1);
+        list.offer(2);
+        Assertions.assertEquals(1, list.pop());
+        Assertions.assertEquals(2, list.poll());
+        Assertions.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void boundedListEvictsOldestInBatches() {
+        List<List<Integer>> evictions = new ArrayList<>();
+        LogList<Integer> list = new LogList<>(1000, 100, evicted -> evictions.add(new ArrayList<>(evicted)));
+        for (int i = 0; i < 10_000; ++i) {
+            list.add(i);
+            Assertions.assertTrue(list.size() <= 1000);
+        }
+        Assertions.assertEquals(9_999, list.getLast());
+        Assertions.assertEquals(list.size(), 10_000 - list.getFirst());
+        Assertions.assertEquals(90, evictions.size());
+        for (int i = 0; i < evictions.size(); ++i) {
+            Assertions.assertEquals(100, evictions.get(i).size());
+            Assertions.assertEquals(i * 100, evictions.get(i).get(0));
+        }
+
+        list.addAll(Collections.nCopies(2_500, -1));
+        Assertions.assertEquals(1000, list.size());
+        Assertions.assertEquals(-1, list.getFirst());
+
+        LogList<Integer> window = new LogList<>(3, 1);
+        window.addAll(List.of(1, 2, 3));
+        Assertions.assertThrows(IllegalStateException.class, () -> window.addFirst(0));
+        Assertions.assertThrows(IllegalStateException.class, () -> window.push(0));
+        Assertions.assertFalse(window.offerFirst(0));
+        Assertions.assertEquals(List.of(1, 2, 3), window);
+        window.removeLast();
+        Assertions.assertTrue(window.offerFirst(0));
+        Assertions.assertEquals(List.of(0, 1, 2), window);
+    }
+
+    @Test
+    void bulkOperations() {
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(13);
+        for (int i = 0; i < 100_000; ++i) {
+            expected.add(random.nextInt(1000));
+        }
+        LogList<Integer> actual = new LogList<>(Integer::sum);
+        actual.addAll(expected);
+        actual.reverse(1000, 60_000);
+        Collections.reverse(expected.subList(1000, 60_000));
+
+        actual.replaceAll(value -> value * 3);
+        expected.replaceAll(value -> value * 3);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), actual.aggregate(0, actual.size()));
+        actual.replaceAllParallel(value -> value + 1);
+        expected.replaceAll(value -> value + 1);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), actual.aggregate(0, actual.size()));
+
+        int[] counter = {0};
+        actual.replaceAll(value -> value + counter[0]++ % 7);
+        for (int i = 0; i < expected.size(); ++i) {
+            expected.set(i, expected.get(i) + i % 7);
+        }
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), actual.aggregate(0, actual.size()));
+
+        List<Integer> visited = new ArrayList<>();
+        actual.forEach(visited::add);
+        Assertions.assertEquals(expected, visited);
+        LongAdder sum = new LongAdder();
+        actual.forEachParallel(sum::add);
+        Assertions.assertEquals(expected.stream().mapToLong(Integer::longValue).sum(), sum.sum());
+
+        LogList.Handle<Integer> handle = actual.handleAt(0);
+        int first = actual.get(0);
+        actual.sort(Comparator.reverseOrder());
+        expected.sort(Comparator.reverseOrder());
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(first, handle.get());
+        Assertions.assertEquals(expected.stream().mapToInt(Integer::intValue).sum(), actual.aggregate(0, actual.size()));
+    }
+
+    @Test
+    void weightedIndexing() {
+        List<String> expected = new ArrayList<>();
+        LogList<String> actual = new LogList<>(String::length);
+        Random random = new Random(17);
+        for (int i = 0; i < 5_000; ++i) {
+            int operation = random.nextInt(5);
+            if (operation == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                Assertions.assertEquals(expected.remove(index), actual.remove(index));
+            } else if (operation == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                String entry = "x".repeat(random.nextInt(20));
+                expected.set(index, entry);
+                actual.set(index, entry);
+            } else if (operation == 2 && !expected.isEmpty()) {
+                int fromIndex = random.nextInt(expected.size());
+                int toIndex = fromIndex + random.nextInt(expected.size() - fromIndex + 1);
+                Collections.reverse(expected.subList(fromIndex, toIndex));
+                actual.reverse(fromIndex, toIndex);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                String entry = "y".repeat(random.nextInt(20));
+                expected.add(index, entry);
+                actual.add(index, entry);
+            }
+        }
+        Assertions.assertEquals(expected, actual);
+
+        long offset = 0;
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(offset, actual.weightBefore(i));
+            for (int j = 0; j < expected.get(i).length(); ++j) {
+                Assertions.assertEquals(i, actual.indexAtWeight(offset + j));
+            }
+            offset += expected.get(i).length();
+        }
+        Assertions.assertEquals(offset, actual.weightBefore(expected.size()));
+        Assertions.assertEquals(offset, actual.totalWeight());
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> actual.indexAtWeight(actual.totalWeight()));
+    }
+
+    @Test
+    void weightedRangeUpdate() {
+        LogList<String> list = new LogList<>(String::length);
+        list.addAll(List.of("a", "bb", "ccc", "dddd"));
+        list.updateRange(1, 3, value -> value + value);
+        Assertions.assertEquals(List.of("a", "bbbb", "cccccc", "dddd"), list);
+        Assertions.assertEquals(5, list.weightBefore(2));
+        Assertions.assertEquals(3, list.indexAtWeight(11));
+        Assertions.assertThrows(IllegalStateException.class, () -> new LogList<String>().weightBefore(0));
+    }
+
+    @Test
+    void getFromOutOfBounds() {
+        LogList<String> list = new LogList<>();
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(-10));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(10));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+}
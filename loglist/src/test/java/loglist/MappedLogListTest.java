@@ -0,0 +1,56 @@
+package loglist;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+class MappedLogListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void behavesLikeList() throws IOException {
+        try (MappedLogList<String> actual = new MappedLogList<>(directory, ElementCodec.STRING)) {
+            ListDifferential.run(actual, 10_000, i -> "value " + i);
+        }
+    }
+
+    @Test
+    void reopen() throws IOException {
+        List<Integer> expected = new ArrayList<>();
+        try (MappedLogList<Integer> list = new MappedLogList<>(directory, ElementCodec.INTEGER)) {
+            for (int i = 0; i < 1000; ++i) {
+                list.add(i / 2, i);
+                expected.add(i / 2, i);
+            }
+            list.remove(10);
+            expected.remove(10);
+            list.force();
+        }
+        try (MappedLogList<Integer> list = new MappedLogList<>(directory, ElementCodec.INTEGER)) {
+            Assertions.assertEquals(expected, list);
+            list.add(0, -1);
+            expected.add(0, -1);
+            Assertions.assertEquals(expected, list);
+        }
+    }
+
+    @Test
+    void rejectsForeignFiles() throws IOException {
+        Files.write(directory.resolve("nodes"), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        Assertions.assertThrows(StreamCorruptedException.class, () -> new MappedLogList<>(directory, ElementCodec.INTEGER));
+        Files.delete(directory.resolve("nodes"));
+        Files.delete(directory.resolve("elements"));
+        try (MappedLogList<Integer> list = new MappedLogList<>(directory, ElementCodec.INTEGER)) {
+            Assertions.assertTrue(list.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class PersistentLogListTest {
+
+    @Test
+    void addRemoveSet() {
+        ListDifferential.run(new PersistentLogList<>(), 2000, i -> i);
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterChanges() {
+        PersistentLogList<String> list = new PersistentLogList<>(List.of("Hello", "World"));
+        PersistentLogList<String> snapshot = list.snapshot();
+        list.add(1, "42");
+        list.set(0, "Goodbye");
+        list.remove(2);
+        Assertions.assertEquals(List.of("Hello", "World"), snapshot);
+        Assertions.assertEquals(List.of("Goodbye", "42"), list);
+    }
+
+    @Test
+    void iteratorSeesListAsOfItsCreation() {
+        PersistentLogList<String> list = new PersistentLogList<>(List.of("Hello", "World"));
+        List<String> iterated = new ArrayList<>();
+        for (String element : list) {
+            iterated.add(element);
+            list.add(element);
+        }
+        Assertions.assertEquals(List.of("Hello", "World"), iterated);
+        Assertions.assertEquals(List.of("Hello", "World", "Hello", "World"), list);
+    }
+
+    @Test
+    void removeByValue() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i % 10);
+        }
+        PersistentLogList<Integer> actual = new PersistentLogList<>(expected);
+        PersistentLogList<Integer> snapshot = actual.snapshot();
+
+        Assertions.assertEquals(expected.remove((Integer) 3), actual.remove((Integer) 3));
+        Assertions.assertFalse(actual.remove((Integer) 42));
+        Assertions.assertEquals(expected.removeIf(value -> value % 4 == 0), actual.removeIf(value -> value % 4 == 0));
+        Assertions.assertFalse(actual.removeIf(value -> value > 10));
+        Assertions.assertEquals(expected.removeAll(List.of(1, 5)), actual.removeAll(List.of(1, 5)));
+        Assertions.assertEquals(expected.retainAll(List.of(2, 3, 6)), actual.retainAll(List.of(2, 3, 6)));
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertEquals(100, snapshot.size());
+    }
+
+    @Test
+    void subListIsFailFast() {
+        PersistentLogList<Integer> list = new PersistentLogList<>(List.of(1, 2, 3, 4));
+        List<Integer> subList = list.subList(1, 3);
+        list.add(0, 0);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        List<Integer> removedSubList = list.subList(0, 2);
+        list.removeIf(value -> value == 4);
+        Assertions.assertThrows(ConcurrentModificationException.class, removedSubList::size);
+    }
+}
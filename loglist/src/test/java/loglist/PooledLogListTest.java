@@ -0,0 +1,43 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class PooledLogListTest {
+
+    @Test
+    void behavesLikeList() {
+        ListDifferential.run(new PooledLogList<>(), 10_000, i -> i);
+    }
+
+    @Test
+    void removeThroughIterator() {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            expected.add(i);
+        }
+        PooledLogList<Integer> actual = new PooledLogList<>(expected);
+        for (Iterator<Integer> iterator = actual.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() % 3 != 0) {
+                iterator.remove();
+            }
+        }
+        expected.removeIf(value -> value % 3 != 0);
+        Assertions.assertEquals(expected, actual);
+        actual.clear();
+        Assertions.assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    void subListIsFailFast() {
+        PooledLogList<Integer> list = new PooledLogList<>(List.of(1, 2, 3, 4));
+        List<Integer> subList = list.subList(1, 3);
+        list.add(0, 0);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+    }
+}
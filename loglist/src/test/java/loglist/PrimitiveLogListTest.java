@@ -0,0 +1,61 @@
+package loglist;
+
+import java.util.AbstractList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class PrimitiveLogListTest {
+
+    @Test
+    void longListBehavesLikeList() {
+        LongLogList actual = new LongLogList();
+        List<Long> expected = ListDifferential.run(new AbstractList<>() {
+            @Override
+            public Long get(int index) {
+                return actual.getLong(index);
+            }
+
+            @Override
+            public int size() {
+                return actual.size();
+            }
+
+            @Override
+            public Long set(int index, Long value) {
+                return actual.set(index, (long) value);
+            }
+
+            @Override
+            public void add(int index, Long value) {
+                actual.add(index, (long) value);
+            }
+
+            @Override
+            public Long remove(int index) {
+                return actual.removeLong(index);
+            }
+        }, 10_000, i -> (long) i);
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals((long) expected.get(i), actual.getLong(i));
+        }
+        Assertions.assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test
+    void intAndDoubleLists() {
+        IntLogList ints = new IntLogList();
+        DoubleLogList doubles = new DoubleLogList(0);
+        for (int i = 0; i < 100; ++i) {
+            ints.add(0, i);
+            doubles.add(i * 0.5);
+        }
+        Assertions.assertEquals(99, ints.getInt(0));
+        Assertions.assertEquals(0, ints.removeInt(99));
+        Assertions.assertEquals(49.5, doubles.getDouble(99));
+        Assertions.assertEquals(99, ints.size());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> doubles.getDouble(100));
+    }
+}
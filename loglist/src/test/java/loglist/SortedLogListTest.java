@@ -0,0 +1,69 @@
+package loglist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class SortedLogListTest {
+
+    @Test
+    void matchesSortedArrayList() {
+        List<Integer> expected = new ArrayList<>();
+        SortedLogList<Integer> actual = new SortedLogList<>(Comparator.naturalOrder());
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; ++i) {
+            int value = random.nextInt(1000);
+            if (random.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove((Integer) value), actual.remove(value));
+            } else {
+                int index = Collections.binarySearch(expected, value);
+                expected.add(index < 0 ? -index - 1 : index, value);
+                actual.add(value);
+            }
+            int probe = random.nextInt(1000);
+            Assertions.assertEquals(countLess(expected, probe), actual.rank(probe));
+            Assertions.assertEquals(countLess(expected, probe + 1), actual.upperBound(probe));
+            Assertions.assertEquals(expected.contains(probe), actual.contains(probe));
+        }
+        Assertions.assertEquals(expected, new ArrayList<>(actual));
+        for (int i = 0; i < expected.size(); ++i) {
+            Assertions.assertEquals(expected.get(i), actual.select(i));
+        }
+    }
+
+    @Test
+    void countInRange() {
+        SortedLogList<Integer> list = new SortedLogList<>(Comparator.naturalOrder(), List.of(5, 1, 3, 3, 9, 7));
+        Assertions.assertEquals(4, list.countInRange(3, 7));
+        Assertions.assertEquals(2, list.countInRange(3, 3));
+        Assertions.assertEquals(0, list.countInRange(4, 4));
+        Assertions.assertEquals(0, list.countInRange(7, 3));
+        Assertions.assertEquals(6, list.countInRange(0, 100));
+    }
+
+    @Test
+    void removeThroughIterator() {
+        SortedLogList<Integer> list = new SortedLogList<>(Comparator.naturalOrder(), List.of(4, 2, 1, 3));
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(List.of(1, 3), new ArrayList<>(list));
+    }
+
+    private static int countLess(List<Integer> sorted, int value) {
+        int count = 0;
+        while (count < sorted.size() && sorted.get(count) < value) {
+            count++;
+        }
+        return count;
+    }
+}
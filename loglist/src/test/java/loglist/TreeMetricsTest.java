@@ -0,0 +1,62 @@
+package loglist;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+class TreeMetricsTest {
+
+    @BeforeEach
+    void requireMetrics() {
+        Assumptions.assumeTrue(TreeMetrics.ENABLED, "run with -Dloglist.metrics=true");
+    }
+
+    @Test
+    void countsRotationsAndPaths() {
+        TreeMetrics.reset();
+        LogList<Integer> list = new LogList<>();
+        for (int i = 0; i < 1000; ++i) {
+            list.add(i);
+        }
+        Assertions.assertTrue(TreeMetrics.leftRotations() > 0);
+        Assertions.assertEquals(0, TreeMetrics.rightRotations());
+        Assertions.assertEquals(999, Arrays.stream(TreeMetrics.balancePathLengthHistogram()).sum());
+        Assertions.assertTrue(TreeMetrics.recomputedNodes() >= 999);
+
+        list.get(500);
+        list.get(10);
+        Assertions.assertEquals(2, Arrays.stream(TreeMetrics.descentDepthHistogram()).sum());
+    }
+
+    @Test
+    void emitsSlowOperationEvents() throws IOException {
+        Path file = Files.createTempFile("loglist", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("loglist.TreeOperation").withThreshold(Duration.ZERO);
+            recording.start();
+            LogList<Integer> list = new LogList<>();
+            list.add(0, 1);
+            list.add(1, 2);
+            list.add(1, 3);
+            list.get(0);
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getString("operation").equals("insert")));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getString("operation").equals("addLast")));
+        Assertions.assertTrue(events.stream().anyMatch(event -> event.getString("operation").equals("get")));
+    }
+}